@@ -0,0 +1,86 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.apache.commons.io.FileUtils;
+import org.contextmapper.dsl.cml.CMLResource;
+import org.contextmapper.dsl.standalone.ContextMapperStandaloneSetup;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.xtext.diagnostics.Severity;
+import org.eclipse.xtext.util.CancelIndicator;
+import org.eclipse.xtext.validation.CheckMode;
+import org.eclipse.xtext.validation.IResourceValidator;
+import org.eclipse.xtext.validation.Issue;
+
+/**
+ * Creates, loads and removes the synthetic models used by the benchmarks.
+ *
+ * @author The Context Mapper Project Team
+ */
+public class BenchmarkModels {
+
+	public static final long SEED = 20240101L;
+
+	private BenchmarkModels() {
+	}
+
+	/**
+	 * Generates a synthetic model into a new temporary directory.
+	 *
+	 * @return the root CML file of the model
+	 */
+	public static File generate(int boundedContexts, int boundedContextsPerFile) throws IOException {
+		SyntheticCMLModelGenerator generator = new SyntheticCMLModelGenerator(SEED);
+		generator.setBoundedContexts(boundedContexts);
+		generator.setBoundedContextsPerFile(boundedContextsPerFile);
+		return generator.generate(Files.createTempDirectory("cml-benchmark").toFile());
+	}
+
+	/**
+	 * Parses the given CML file (and its imports) into a new resource set and
+	 * resolves all cross references.
+	 */
+	public static CMLResource load(File cmlFile) {
+		CMLResource resource = ContextMapperStandaloneSetup.getStandaloneAPI().loadCML(cmlFile);
+		EcoreUtil.resolveAll(resource.getResourceSet());
+		return resource;
+	}
+
+	/**
+	 * Ensures that a generated model is valid, so that the benchmarks do not
+	 * measure error paths.
+	 */
+	public static void assertValid(CMLResource resource) {
+		List<Issue> errors = ContextMapperStandaloneSetup.getInjector().getInstance(IResourceValidator.class)
+				.validate(resource, CheckMode.ALL, CancelIndicator.NullImpl).stream().filter(i -> i.getSeverity() == Severity.ERROR)
+				.collect(Collectors.toList());
+		if (!errors.isEmpty())
+			throw new IllegalStateException("The synthetic model is not valid: " + errors.get(0).getMessage() + " (and "
+					+ (errors.size() - 1) + " more errors)");
+	}
+
+	public static void delete(File cmlFile) {
+		if (cmlFile != null)
+			FileUtils.deleteQuietly(cmlFile.getParentFile());
+	}
+
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.contextmapper.dsl.contextMappingDSL.Aggregate;
+import org.contextmapper.dsl.contextMappingDSL.BoundedContext;
+import org.contextmapper.dsl.contextMappingDSL.ContextMappingDSLFactory;
+import org.contextmapper.dsl.generator.plantuml.PlantUMLBoundedContextClassDiagramCreator;
+import org.contextmapper.tactic.dsl.tacticdsl.CollectionType;
+import org.contextmapper.tactic.dsl.tacticdsl.Entity;
+import org.contextmapper.tactic.dsl.tacticdsl.Reference;
+import org.contextmapper.tactic.dsl.tacticdsl.TacticdslFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * PlantUML class diagram of one large Bounded Context; the time per domain
+ * object should stay constant with a growing number of domain objects.
+ *
+ * @author The Context Mapper Project Team
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ClassDiagramBenchmark {
+
+	private static final int DOMAIN_OBJECTS_PER_AGGREGATE = 10;
+
+	@Param({ "1000", "2500", "5000", "10000" })
+	public int domainObjects;
+
+	private BoundedContext boundedContext;
+
+	@Setup(Level.Trial)
+	public void createBoundedContext() {
+		boundedContext = ContextMappingDSLFactory.eINSTANCE.createBoundedContext();
+		boundedContext.setName("LargeContext");
+		Aggregate aggregate = null;
+		Entity previousEntity = null;
+		for (int i = 0; i < domainObjects; i++) {
+			if (i % DOMAIN_OBJECTS_PER_AGGREGATE == 0) {
+				aggregate = ContextMappingDSLFactory.eINSTANCE.createAggregate();
+				aggregate.setName("Aggregate" + i);
+				boundedContext.getAggregates().add(aggregate);
+			}
+			Entity entity = TacticdslFactory.eINSTANCE.createEntity();
+			entity.setName("Entity" + i);
+			entity.setAggregateRoot(i % DOMAIN_OBJECTS_PER_AGGREGATE == 0);
+			aggregate.getDomainObjects().add(entity);
+			if (previousEntity != null) {
+				previousEntity.getReferences().add(createReference("next", entity, CollectionType.LIST));
+				entity.getReferences().add(createReference("previous", previousEntity, CollectionType.NONE));
+				if (i % 2 == 0)
+					entity.setExtends(previousEntity);
+			}
+			previousEntity = entity;
+		}
+	}
+
+	@Benchmark
+	public String createClassDiagram() {
+		return new PlantUMLBoundedContextClassDiagramCreator().createDiagram(boundedContext);
+	}
+
+	private Reference createReference(String name, Entity target, CollectionType collectionType) {
+		Reference reference = TacticdslFactory.eINSTANCE.createReference();
+		reference.setName(name);
+		reference.setDomainObjectType(target);
+		reference.setCollectionType(collectionType);
+		return reference;
+	}
+
+}
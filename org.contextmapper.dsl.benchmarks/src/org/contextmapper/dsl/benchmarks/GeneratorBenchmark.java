@@ -0,0 +1,122 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.FileUtils;
+import org.contextmapper.dsl.cml.CMLResource;
+import org.contextmapper.dsl.generator.ContextMapGenerator;
+import org.contextmapper.dsl.generator.GenericContentGenerator;
+import org.contextmapper.dsl.generator.MDSLContractsGenerator;
+import org.contextmapper.dsl.generator.PlantUMLGenerator;
+import org.contextmapper.dsl.generator.SketchMinerGenerator;
+import org.contextmapper.dsl.generator.contextmap.ContextMapFormat;
+import org.contextmapper.dsl.standalone.FileSystemHelper;
+import org.eclipse.xtext.generator.GeneratorContext;
+import org.eclipse.xtext.generator.IFileSystemAccess2;
+import org.eclipse.xtext.generator.IGenerator2;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The CML generators on parsed and linked models. The Context Map generator
+ * only creates DOT files, so that the results do not depend on the Graphviz
+ * installation.
+ *
+ * @author The Context Mapper Project Team
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class GeneratorBenchmark {
+
+	@Param({ "PlantUML", "MDSL", "ContextMap", "SketchMiner", "Generic" })
+	public String generator;
+
+	@Param({ "10", "100", "1000", "5000" })
+	public int boundedContexts;
+
+	private File modelFile;
+	private File outputDir;
+	private File templateFile;
+	private CMLResource resource;
+	private IFileSystemAccess2 fsa;
+
+	@Setup(Level.Trial)
+	public void createModel() throws IOException {
+		modelFile = BenchmarkModels.generate(boundedContexts, 0);
+		resource = BenchmarkModels.load(modelFile);
+		outputDir = Files.createTempDirectory("cml-benchmark-output").toFile();
+		fsa = FileSystemHelper.getFileSystemAccess(outputDir.getAbsolutePath());
+		templateFile = new File(modelFile.getParentFile(), "benchmark.ftl");
+		FileUtils.writeStringToFile(templateFile,
+				"<#list boundedContexts as bc>\n${bc.name}: <#list bc.aggregates as agg>${agg.name} </#list>\n</#list>\n",
+				StandardCharsets.UTF_8);
+	}
+
+	@TearDown(Level.Trial)
+	public void deleteModel() {
+		BenchmarkModels.delete(modelFile);
+		FileUtils.deleteQuietly(outputDir);
+	}
+
+	@Benchmark
+	public void generate() {
+		createGenerator().doGenerate(resource, fsa, new GeneratorContext());
+	}
+
+	private IGenerator2 createGenerator() {
+		switch (generator) {
+		case "PlantUML":
+			return new PlantUMLGenerator();
+		case "MDSL":
+			return new MDSLContractsGenerator();
+		case "ContextMap":
+			ContextMapGenerator contextMapGenerator = new ContextMapGenerator();
+			contextMapGenerator.setContextMapFormats(ContextMapFormat.DOT);
+			return contextMapGenerator;
+		case "SketchMiner":
+			return new SketchMinerGenerator();
+		case "Generic":
+			GenericContentGenerator genericGenerator = new GenericContentGenerator();
+			genericGenerator.setFreemarkerTemplateFile(templateFile);
+			genericGenerator.setTargetFileName("benchmark.txt");
+			return genericGenerator;
+		default:
+			throw new IllegalArgumentException("Unknown generator: " + generator);
+		}
+	}
+
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.contextmapper.dsl.generator.sketchminer.LZString;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compression of BPMN Sketch Miner links: the current LZString implementation
+ * compared to the previous, string based one. Run with
+ * {@code -PjmhArgs="-prof gc"} to compare the allocation rates as well.
+ *
+ * @author The Context Mapper Project Team
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class LZStringBenchmark {
+
+	@Param({ "1024", "4096", "16384" })
+	public int textLength;
+
+	private String sketchMinerText;
+
+	@Setup(Level.Trial)
+	public void createSketchMinerText() {
+		StringBuilder text = new StringBuilder("bpln:v1\n--\nCustomerManagement Application:\n\n");
+		for (int i = 0; text.length() < textLength; i++) {
+			text.append("service CreateCustomer").append(i).append("\n");
+			text.append("(CustomerCreated").append(i).append(")|(AddressCreated").append(i).append(")\n");
+			text.append("...\n\n...\n(AddressCreated").append(i).append(")\n");
+			text.append("service ValidateAddress").append(i).append(" // Address [CREATED -> VALIDATED]\n\n");
+		}
+		sketchMinerText = text.substring(0, textLength);
+	}
+
+	@Benchmark
+	public String compress() {
+		return LZString.compressToEncodedURIComponent(sketchMinerText);
+	}
+
+	@Benchmark
+	public String compressWithLegacyImplementation() {
+		return LegacyLZString.compressToEncodedURIComponent(sketchMinerText);
+	}
+
+}
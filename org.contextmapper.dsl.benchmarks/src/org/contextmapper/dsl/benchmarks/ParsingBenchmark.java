@@ -0,0 +1,76 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.contextmapper.dsl.cml.CMLResource;
+import org.contextmapper.dsl.standalone.ContextMapperStandaloneSetup;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Parsing and linking of CML models (single file and split into imported
+ * files).
+ *
+ * @author The Context Mapper Project Team
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ParsingBenchmark {
+
+	@Param({ "10", "100", "1000", "5000" })
+	public int boundedContexts;
+
+	@Param({ "0", "100" })
+	public int boundedContextsPerFile;
+
+	private File modelFile;
+
+	@Setup(Level.Trial)
+	public void createModel() throws IOException {
+		ContextMapperStandaloneSetup.initialize();
+		modelFile = BenchmarkModels.generate(boundedContexts, boundedContextsPerFile);
+	}
+
+	@TearDown(Level.Trial)
+	public void deleteModel() {
+		BenchmarkModels.delete(modelFile);
+	}
+
+	@Benchmark
+	public CMLResource parseAndLink() {
+		return BenchmarkModels.load(modelFile);
+	}
+
+}
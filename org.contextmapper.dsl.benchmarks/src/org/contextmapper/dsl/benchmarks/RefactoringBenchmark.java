@@ -0,0 +1,123 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.benchmarks;
+
+import static org.contextmapper.dsl.benchmarks.SyntheticCMLModelGenerator.getAggregateName;
+import static org.contextmapper.dsl.benchmarks.SyntheticCMLModelGenerator.getBoundedContextName;
+import static org.contextmapper.dsl.benchmarks.SyntheticCMLModelGenerator.getSubdomainName;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.contextmapper.dsl.cml.CMLResource;
+import org.contextmapper.dsl.contextMappingDSL.Aggregate;
+import org.contextmapper.dsl.contextMappingDSL.SharedKernel;
+import org.contextmapper.dsl.refactoring.DeriveBoundedContextFromSubdomains;
+import org.contextmapper.dsl.refactoring.ExtractAggregatesByVolatility;
+import org.contextmapper.dsl.refactoring.ExtractSharedKernelRefactoring;
+import org.contextmapper.dsl.refactoring.MergeAggregatesRefactoring;
+import org.contextmapper.dsl.refactoring.MergeBoundedContextsRefactoring;
+import org.contextmapper.dsl.refactoring.SemanticCMLRefactoring;
+import org.contextmapper.dsl.refactoring.SplitAggregateByEntitiesRefactoring;
+import org.contextmapper.dsl.refactoring.SplitBoundedContextByFeatures;
+import org.eclipse.xtext.EcoreUtil2;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.common.collect.Sets;
+
+/**
+ * The main architectural refactorings on parsed and linked models. Every
+ * invocation works on a freshly loaded model, since the refactorings change
+ * it; the changes are not serialized.
+ *
+ * @author The Context Mapper Project Team
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class RefactoringBenchmark {
+
+	@Param({ "SplitAggregateByEntities", "SplitBoundedContextByFeatures", "ExtractAggregatesByVolatility", "MergeAggregates",
+			"MergeBoundedContexts", "ExtractSharedKernel", "DeriveBoundedContextFromSubdomains" })
+	public String refactoring;
+
+	@Param({ "10", "100", "1000", "5000" })
+	public int boundedContexts;
+
+	private File modelFile;
+	private CMLResource resource;
+
+	@Setup(Level.Trial)
+	public void createModel() throws IOException {
+		modelFile = BenchmarkModels.generate(boundedContexts, 0);
+	}
+
+	@Setup(Level.Invocation)
+	public void loadModel() {
+		resource = BenchmarkModels.load(modelFile);
+	}
+
+	@TearDown(Level.Trial)
+	public void deleteModel() {
+		BenchmarkModels.delete(modelFile);
+	}
+
+	@Benchmark
+	public CMLResource refactor() {
+		createRefactoring().refactor(resource);
+		return resource;
+	}
+
+	private SemanticCMLRefactoring createRefactoring() {
+		switch (refactoring) {
+		case "SplitAggregateByEntities":
+			return new SplitAggregateByEntitiesRefactoring(getAggregateName(1, 0));
+		case "SplitBoundedContextByFeatures":
+			return new SplitBoundedContextByFeatures(getBoundedContextName(1));
+		case "ExtractAggregatesByVolatility":
+			Aggregate aggregate = EcoreUtil2.eAllOfType(resource.getContextMappingModel(), Aggregate.class).get(0);
+			return new ExtractAggregatesByVolatility(getBoundedContextName(1), aggregate.getLikelihoodForChange());
+		case "MergeAggregates":
+			return new MergeAggregatesRefactoring(getAggregateName(1, 0), getAggregateName(1, 1));
+		case "MergeBoundedContexts":
+			return new MergeBoundedContextsRefactoring(getBoundedContextName(1), getBoundedContextName(2));
+		case "ExtractSharedKernel":
+			SharedKernel sharedKernel = EcoreUtil2.eAllOfType(resource.getContextMappingModel().getMap(), SharedKernel.class).get(0);
+			return new ExtractSharedKernelRefactoring(sharedKernel.getParticipant1().getName(), sharedKernel.getParticipant2().getName());
+		case "DeriveBoundedContextFromSubdomains":
+			return new DeriveBoundedContextFromSubdomains("DerivedContext", Sets.newHashSet(getSubdomainName(1)));
+		default:
+			throw new IllegalArgumentException("Unknown refactoring: " + refactoring);
+		}
+	}
+
+}
@@ -0,0 +1,300 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Random;
+
+import org.apache.commons.io.FileUtils;
+
+import com.google.common.collect.Lists;
+
+/**
+ * Generates realistic, valid CML models of arbitrary size for benchmarks.
+ *
+ * The models contain a domain with one subdomain per Bounded Context, Bounded
+ * Contexts with aggregates (entities, value objects, domain events, references
+ * and operations), application flows, use cases and a Context Map with
+ * upstream-downstream, Shared Kernel and Partnership relationships. Optionally,
+ * the Bounded Contexts are split into multiple files that are imported by the
+ * root file. The same seed always produces the same model.
+ *
+ * @author The Context Mapper Project Team
+ */
+public class SyntheticCMLModelGenerator {
+
+	public static final String ROOT_FILE_NAME = "model.cml";
+
+	private static final String DOMAIN_FILE_NAME = "domain.cml";
+	private static final String USE_CASES_FILE_NAME = "use-cases.cml";
+	private static final String[] VOLATILITIES = { "RARELY", "NORMAL", "OFTEN" };
+	private static final String[] ATTRIBUTE_TYPES = { "String", "int", "long", "boolean", "Date", "BigDecimal" };
+
+	private final long seed;
+	private int boundedContexts = 10;
+	private int aggregatesPerBoundedContext = 3;
+	private int entitiesPerAggregate = 4;
+	private int boundedContextsPerFile = 0;
+
+	public SyntheticCMLModelGenerator(long seed) {
+		this.seed = seed;
+	}
+
+	public void setBoundedContexts(int boundedContexts) {
+		if (boundedContexts < 2)
+			throw new IllegalArgumentException("A synthetic model needs at least two Bounded Contexts.");
+		this.boundedContexts = boundedContexts;
+	}
+
+	public void setAggregatesPerBoundedContext(int aggregatesPerBoundedContext) {
+		if (aggregatesPerBoundedContext < 1)
+			throw new IllegalArgumentException("A synthetic Bounded Context needs at least one aggregate.");
+		this.aggregatesPerBoundedContext = aggregatesPerBoundedContext;
+	}
+
+	public void setEntitiesPerAggregate(int entitiesPerAggregate) {
+		if (entitiesPerAggregate < 2)
+			throw new IllegalArgumentException("A synthetic aggregate needs at least two entities.");
+		this.entitiesPerAggregate = entitiesPerAggregate;
+	}
+
+	/**
+	 * Splits the Bounded Contexts into files with the given number of Bounded
+	 * Contexts, which are imported by the root file. With 0 (default) the whole
+	 * model is written into the root file.
+	 */
+	public void setBoundedContextsPerFile(int boundedContextsPerFile) {
+		this.boundedContextsPerFile = boundedContextsPerFile;
+	}
+
+	/**
+	 * Writes the model into the given directory.
+	 *
+	 * @return the root CML file of the model
+	 */
+	public File generate(File directory) throws IOException {
+		Random random = new Random(seed);
+		StringBuilder root = new StringBuilder();
+		List<String> importedFiles = Lists.newArrayList();
+
+		StringBuilder contexts = new StringBuilder();
+		int fileIndex = 1;
+		for (int bc = 1; bc <= boundedContexts; bc++) {
+			appendBoundedContext(contexts, bc, random);
+			boolean fileComplete = boundedContextsPerFile > 0 && (bc % boundedContextsPerFile == 0 || bc == boundedContexts);
+			if (fileComplete) {
+				String fileName = "contexts-" + fileIndex++ + ".cml";
+				write(directory, fileName, "import \"./" + DOMAIN_FILE_NAME + "\"\nimport \"./" + USE_CASES_FILE_NAME + "\"\n\n" + contexts);
+				importedFiles.add(fileName);
+				contexts.setLength(0);
+			}
+		}
+
+		StringBuilder domain = new StringBuilder();
+		appendDomain(domain, random);
+		StringBuilder useCases = new StringBuilder();
+		appendUseCases(useCases);
+		if (boundedContextsPerFile > 0) {
+			write(directory, DOMAIN_FILE_NAME, domain.toString());
+			write(directory, USE_CASES_FILE_NAME, useCases.toString());
+			importedFiles.add(0, USE_CASES_FILE_NAME);
+			importedFiles.add(0, DOMAIN_FILE_NAME);
+			for (String importedFile : importedFiles) {
+				root.append("import \"./").append(importedFile).append("\"\n");
+			}
+			root.append("\n");
+		}
+
+		appendContextMap(root, random);
+		if (boundedContextsPerFile <= 0)
+			root.append(contexts).append(domain).append(useCases);
+
+		return write(directory, ROOT_FILE_NAME, root.toString());
+	}
+
+	/**
+	 * @return the name of the Bounded Context with the given (1-based) index
+	 */
+	public static String getBoundedContextName(int index) {
+		return "Context" + index;
+	}
+
+	/**
+	 * @return the name of the aggregate with the given (0-based) index in the
+	 *         Bounded Context with the given (1-based) index
+	 */
+	public static String getAggregateName(int boundedContextIndex, int aggregateIndex) {
+		return getBoundedContextName(boundedContextIndex) + "Aggregate" + aggregateIndex;
+	}
+
+	/**
+	 * @return the name of the subdomain implemented by the Bounded Context with
+	 *         the given (1-based) index
+	 */
+	public static String getSubdomainName(int boundedContextIndex) {
+		return getBoundedContextName(boundedContextIndex) + "Subdomain";
+	}
+
+	private void appendContextMap(StringBuilder cml, Random random) {
+		cml.append("ContextMap SyntheticContextMap {\n");
+		cml.append("\ttype = SYSTEM_LANDSCAPE\n");
+		cml.append("\tstate = AS_IS\n");
+		for (int bc = 1; bc <= boundedContexts; bc++) {
+			cml.append("\tcontains ").append(getBoundedContextName(bc)).append("\n");
+		}
+		cml.append("\n");
+		for (int bc = 1; bc < boundedContexts; bc++) {
+			int relationshipType = random.nextInt(10);
+			if (relationshipType == 0)
+				appendSymmetricRelationship(cml, bc, bc + 1, "SK");
+			else if (relationshipType == 1)
+				appendSymmetricRelationship(cml, bc, bc + 1, "P");
+			else
+				appendUpstreamDownstreamRelationship(cml, bc, bc + 1, random);
+
+			// additional relationships to contexts further down the chain (no cycles)
+			if (bc + 2 <= boundedContexts && random.nextInt(3) == 0)
+				appendUpstreamDownstreamRelationship(cml, bc, bc + 2 + random.nextInt(boundedContexts - bc - 1), random);
+		}
+		cml.append("}\n\n");
+	}
+
+	private void appendSymmetricRelationship(StringBuilder cml, int bc1, int bc2, String type) {
+		cml.append("\t").append(getBoundedContextName(bc1)).append(" [").append(type).append("]<->[").append(type).append("] ")
+				.append(getBoundedContextName(bc2)).append("\n");
+	}
+
+	private void appendUpstreamDownstreamRelationship(StringBuilder cml, int upstream, int downstream, Random random) {
+		cml.append("\t").append(getBoundedContextName(upstream)).append(" [U,OHS,PL]->[D,ACL] ").append(getBoundedContextName(downstream))
+				.append(" {\n");
+		cml.append("\t\texposedAggregates = ").append(getAggregateName(upstream, random.nextInt(aggregatesPerBoundedContext))).append("\n");
+		cml.append("\t\timplementationTechnology = \"RESTful HTTP\"\n");
+		cml.append("\t}\n");
+	}
+
+	private void appendBoundedContext(StringBuilder cml, int bc, Random random) {
+		String name = getBoundedContextName(bc);
+		cml.append("BoundedContext ").append(name).append(" implements ").append(getSubdomainName(bc)).append(" {\n");
+		cml.append("\ttype = FEATURE\n");
+		cml.append("\tdomainVisionStatement = \"Synthetic Bounded Context number ").append(bc).append(".\"\n");
+		cml.append("\tresponsibilities = \"").append(name).append("Management\"\n");
+		appendApplication(cml, bc);
+		for (int agg = 0; agg < aggregatesPerBoundedContext; agg++) {
+			appendAggregate(cml, bc, agg, random);
+		}
+		cml.append("}\n\n");
+	}
+
+	private void appendApplication(StringBuilder cml, int bc) {
+		String prefix = getBoundedContextName(bc);
+		cml.append("\tApplication {\n");
+		for (int agg = 0; agg < aggregatesPerBoundedContext; agg++) {
+			cml.append("\t\tCommandEvent ").append(prefix).append("Create").append(agg).append("\n");
+			cml.append("\t\tCommandEvent ").append(prefix).append("Update").append(agg).append("\n");
+			cml.append("\t\tDomainEvent ").append(prefix).append("Created").append(agg).append("\n");
+			cml.append("\t\tDomainEvent ").append(prefix).append("Updated").append(agg).append("\n");
+		}
+		cml.append("\t\tFlow ").append(prefix).append("Flow {\n");
+		for (int agg = 0; agg < aggregatesPerBoundedContext; agg++) {
+			cml.append("\t\t\tcommand ").append(prefix).append("Create").append(agg).append(" emits event ").append(prefix).append("Created").append(agg)
+					.append("\n");
+			cml.append("\t\t\tevent ").append(prefix).append("Created").append(agg).append(" triggers command ").append(prefix).append("Update")
+					.append(agg).append("\n");
+			cml.append("\t\t\tcommand ").append(prefix).append("Update").append(agg).append(" emits event ").append(prefix).append("Updated").append(agg)
+					.append("\n");
+			if (agg + 1 < aggregatesPerBoundedContext)
+				cml.append("\t\t\tevent ").append(prefix).append("Updated").append(agg).append(" triggers command ").append(prefix).append("Create")
+						.append(agg + 1).append("\n");
+		}
+		cml.append("\t\t}\n");
+		cml.append("\t}\n");
+	}
+
+	private void appendAggregate(StringBuilder cml, int bc, int agg, Random random) {
+		String name = getAggregateName(bc, agg);
+		cml.append("\tAggregate ").append(name).append(" {\n");
+		cml.append("\t\tuseCases = ").append(getUseCaseName(bc, agg)).append("\n");
+		cml.append("\t\tlikelihoodForChange = ").append(VOLATILITIES[random.nextInt(VOLATILITIES.length)]).append("\n");
+		for (int entity = 0; entity < entitiesPerAggregate; entity++) {
+			String entityName = name + "Entity" + entity;
+			cml.append("\t\tEntity ").append(entityName).append(" {\n");
+			if (entity == 0)
+				cml.append("\t\t\taggregateRoot\n");
+			cml.append("\t\t\tString id\n");
+			int attributes = 1 + random.nextInt(5);
+			for (int attribute = 0; attribute < attributes; attribute++) {
+				cml.append("\t\t\t").append(ATTRIBUTE_TYPES[random.nextInt(ATTRIBUTE_TYPES.length)]).append(" attribute").append(attribute).append("\n");
+			}
+			if (entity + 1 < entitiesPerAggregate) {
+				String collection = random.nextBoolean() ? "List<" + name + "Entity" + (entity + 1) + ">" : name + "Entity" + (entity + 1);
+				cml.append("\t\t\t- ").append(collection).append(" next\n");
+			}
+			cml.append("\t\t\t- ").append(name).append("Value address\n");
+			cml.append("\t\t\tdef void update").append(entityName).append("(String id);\n");
+			cml.append("\t\t}\n");
+		}
+		cml.append("\t\tValueObject ").append(name).append("Value {\n");
+		cml.append("\t\t\tString street\n");
+		cml.append("\t\t\tString city\n");
+		cml.append("\t\t}\n");
+		cml.append("\t\tDomainEvent ").append(name).append("Changed {\n");
+		cml.append("\t\t\tString id\n");
+		cml.append("\t\t}\n");
+		cml.append("\t}\n");
+	}
+
+	private void appendDomain(StringBuilder cml, Random random) {
+		cml.append("Domain SyntheticDomain {\n");
+		for (int bc = 1; bc <= boundedContexts; bc++) {
+			cml.append("\tSubdomain ").append(getSubdomainName(bc)).append(" {\n");
+			cml.append("\t\ttype = ").append(random.nextInt(3) == 0 ? "CORE_DOMAIN" : "SUPPORTING_DOMAIN").append("\n");
+			cml.append("\t\tdomainVisionStatement = \"Subdomain of ").append(getBoundedContextName(bc)).append(".\"\n");
+			cml.append("\t\tEntity ").append(getSubdomainName(bc)).append("Entity {\n");
+			cml.append("\t\t\tString name\n");
+			cml.append("\t\t}\n");
+			cml.append("\t}\n");
+		}
+		cml.append("}\n\n");
+	}
+
+	private void appendUseCases(StringBuilder cml) {
+		for (int bc = 1; bc <= boundedContexts; bc++) {
+			for (int agg = 0; agg < aggregatesPerBoundedContext; agg++) {
+				String root = getAggregateName(bc, agg) + "Entity0";
+				cml.append("UseCase ").append(getUseCaseName(bc, agg)).append(" {\n");
+				cml.append("\tactor \"User\"\n");
+				cml.append("\tinteractions\n");
+				cml.append("\t\t\"create\" a \"").append(root).append("\",\n");
+				cml.append("\t\t\"update\" \"").append(root).append("\"\n");
+				cml.append("}\n\n");
+			}
+		}
+	}
+
+	private String getUseCaseName(int bc, int agg) {
+		return getAggregateName(bc, agg) + "UseCase";
+	}
+
+	private File write(File directory, String fileName, String content) throws IOException {
+		File file = new File(directory, fileName);
+		FileUtils.writeStringToFile(file, content, StandardCharsets.UTF_8);
+		return file;
+	}
+
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.ide.tests.actions;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.contextmapper.dsl.cml.CMLResource;
+import org.contextmapper.dsl.contextMappingDSL.BoundedContext;
+import org.contextmapper.dsl.contextMappingDSL.ContextMappingDSLFactory;
+import org.contextmapper.dsl.contextMappingDSL.Subdomain;
+import org.contextmapper.dsl.ide.ContextMappingDSLIdeSetup;
+import org.contextmapper.dsl.ide.actions.CMLActionMetrics;
+import org.contextmapper.dsl.ide.actions.CMLActionRegistry;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.lsp4j.Command;
+import org.eclipse.xtext.EcoreUtil2;
+import org.eclipse.xtext.resource.XtextResourceSet;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.Sets;
+import com.google.inject.Injector;
+
+public class CMLActionRegistryTest {
+
+	private static final String MODEL = "BoundedContext CustomerContext implements CustomerDomain {\n" + "\tAggregate Customers\n" + "}\n\n"
+			+ "Domain InsuranceDomain {\n" + "\tSubdomain CustomerDomain\n" + "}\n";
+
+	private CMLActionRegistry registry;
+	private CMLActionMetrics metrics;
+	private CMLResource resource;
+
+	@BeforeEach
+	public void prepare() throws IOException {
+		Injector injector = new ContextMappingDSLIdeSetup().createInjectorAndDoEMFRegistration();
+		XtextResourceSet resourceSet = injector.getInstance(XtextResourceSet.class);
+		Resource xtextResource = resourceSet.createResource(URI.createURI("ActionRegistryTest.cml"));
+		xtextResource.load(new ByteArrayInputStream(MODEL.getBytes(StandardCharsets.UTF_8)), null);
+		resource = new CMLResource(xtextResource);
+		registry = injector.getInstance(CMLActionRegistry.class);
+		metrics = registry.getActionMetrics();
+		metrics.reset();
+	}
+
+	@Test
+	public void evaluatesOnlyActionsRegisteredForSelectedTypes() {
+		// given
+		Subdomain subdomain = EcoreUtil2.eAllOfType(resource.getContextMappingModel(), Subdomain.class).get(0);
+
+		// when
+		List<? extends Command> commands = registry.getApplicableActionCommands(resource, Arrays.asList(subdomain.eContainer(), subdomain));
+
+		// then
+		assertEquals(Arrays.asList("cml.ar.deriveBoundedContextFromSDs.proxy"), commands.stream().map(Command::getCommand).collect(Collectors.toList()));
+		assertEquals(Sets.newHashSet("DeriveBoundedContextFromSubdomainsAction"), metrics.getActionNames());
+	}
+
+	@Test
+	public void cachesApplicableCommandsForSameSelection() {
+		// given
+		BoundedContext bc = resource.getContextMappingModel().getBoundedContexts().get(0);
+		List<? extends Command> firstCommands = registry.getApplicableActionCommands(resource, Arrays.asList(bc));
+
+		// when
+		List<? extends Command> secondCommands = registry.getApplicableActionCommands(resource, Arrays.asList(bc));
+
+		// then
+		assertSame(firstCommands, secondCommands);
+		assertEquals(1, metrics.getCacheHits());
+		assertEquals(1, metrics.getCacheMisses());
+		Set<String> evaluatedActions = metrics.getActionNames();
+		assertEquals(8, evaluatedActions.size());
+		for (String action : evaluatedActions) {
+			assertEquals(1, metrics.getEvaluationCount(action));
+		}
+	}
+
+	@Test
+	public void reevaluatesActionsIfResourceChanged() {
+		// given
+		BoundedContext bc = resource.getContextMappingModel().getBoundedContexts().get(0);
+		List<EObject> selection = Arrays.asList(bc);
+		List<String> commandsBeforeChange = getCommandIds(registry.getApplicableActionCommands(resource, selection));
+
+		// when
+		bc.getAggregates().add(ContextMappingDSLFactory.eINSTANCE.createAggregate());
+		List<String> commandsAfterChange = getCommandIds(registry.getApplicableActionCommands(resource, selection));
+
+		// then
+		assertEquals(0, metrics.getCacheHits());
+		assertEquals(2, metrics.getCacheMisses());
+		assertFalse(commandsBeforeChange.contains("cml.ar.extractAggregatesByCohesion.proxy"));
+		assertTrue(commandsAfterChange.contains("cml.ar.extractAggregatesByCohesion.proxy"));
+	}
+
+	private List<String> getCommandIds(List<? extends Command> commands) {
+		return commands.stream().map(Command::getCommand).collect(Collectors.toList());
+	}
+
+}
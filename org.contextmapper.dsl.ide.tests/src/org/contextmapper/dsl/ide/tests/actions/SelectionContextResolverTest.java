@@ -0,0 +1,100 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.ide.tests.actions;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.contextmapper.dsl.ContextMappingDSLStandaloneSetup;
+import org.contextmapper.dsl.cml.CMLResource;
+import org.contextmapper.dsl.ide.actions.SelectionContextResolver;
+import org.contextmapper.tactic.dsl.tacticdsl.Entity;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.xtext.resource.EObjectAtOffsetHelper;
+import org.eclipse.xtext.resource.XtextResource;
+import org.eclipse.xtext.resource.XtextResourceSet;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.Lists;
+import com.google.inject.Injector;
+
+public class SelectionContextResolverTest {
+
+	private static final String MODEL = "BoundedContext CustomerContext implements CustomerDomain {\n" + "\tAggregate Customers {\n" + "\t\tEntity Customer {\n"
+			+ "\t\t\t- Address address\n" + "\t\t}\n" + "\t\tEntity Address\n" + "\t}\n" + "}\n\n" + "Domain InsuranceDomain {\n" + "\tSubdomain CustomerDomain\n" + "}\n";
+
+	private Injector injector;
+	private CMLResource resource;
+
+	@BeforeEach
+	public void prepare() throws IOException {
+		injector = new ContextMappingDSLStandaloneSetup().createInjectorAndDoEMFRegistration();
+		XtextResourceSet resourceSet = injector.getInstance(XtextResourceSet.class);
+		Resource xtextResource = resourceSet.createResource(URI.createURI("SelectionTest.cml"));
+		xtextResource.load(new ByteArrayInputStream(MODEL.getBytes(StandardCharsets.UTF_8)), null);
+		resource = new CMLResource(xtextResource);
+	}
+
+	@Test
+	public void canResolveSelectedObjects() {
+		// given
+		SelectionContextResolver resolver = injector.getInstance(SelectionContextResolver.class);
+		int start = MODEL.indexOf("Entity Address");
+
+		// when
+		List<EObject> objects = resolver.resolveAllSelectedEObjects(resource, start, start + "Entity Address".length());
+
+		// then
+		assertTrue(objects.get(0) instanceof Entity);
+		assertEquals("Address", ((Entity) objects.get(0)).getName());
+	}
+
+	@Test
+	public void resolvesSameObjectsAsOffsetByOffsetResolution() {
+		// given
+		SelectionContextResolver resolver = injector.getInstance(SelectionContextResolver.class);
+		EObjectAtOffsetHelper offsetHelper = injector.getInstance(EObjectAtOffsetHelper.class);
+
+		for (int start = 0; start <= MODEL.length() + 1; start++) {
+			for (int end : new int[] { start, start + 1, start + 2, start + 7, start + 30, MODEL.length(), MODEL.length() + 1 }) {
+				// when
+				List<EObject> objects = resolver.resolveAllSelectedEObjects(resource, start, end);
+
+				// then
+				assertEquals(resolveOffsetByOffset(offsetHelper, start, end), objects, "selection " + start + " - " + end);
+			}
+		}
+	}
+
+	private List<EObject> resolveOffsetByOffset(EObjectAtOffsetHelper offsetHelper, int start, int end) {
+		List<EObject> objects = Lists.newArrayList();
+		for (int i = start; i <= end; i++) {
+			EObject object = offsetHelper.resolveElementAt((XtextResource) resource.getXtextResource(), i);
+			if (!objects.contains(object))
+				objects.add(object);
+		}
+		return objects;
+	}
+
+}
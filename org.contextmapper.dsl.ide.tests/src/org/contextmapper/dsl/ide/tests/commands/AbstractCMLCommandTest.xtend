@@ -16,13 +16,25 @@
 package org.contextmapper.dsl.ide.tests.commands
 
 import java.io.File
+import java.util.List
 import org.contextmapper.dsl.ide.tests.AbstractCMLLanguageServerTest
+import org.eclipse.lsp4j.ApplyWorkspaceEditParams
 import org.eclipse.lsp4j.ClientCapabilities
 import org.eclipse.lsp4j.ExecuteCommandCapabilities
 import org.eclipse.lsp4j.WorkspaceClientCapabilities
+import org.eclipse.lsp4j.WorkspaceEdit
+import org.eclipse.xtext.ide.server.Document
 
 abstract class AbstractCMLCommandTest extends AbstractCMLLanguageServerTest {
 
+	val List<WorkspaceEdit> appliedEdits = newArrayList
+
+	override request(String method, Object parameter) {
+		if (parameter instanceof ApplyWorkspaceEditParams)
+			appliedEdits.add(parameter.edit)
+		return super.request(method, parameter)
+	}
+
 	def void initializeCommandsDynamically() {
 		initialize[
 			capabilities = new ClientCapabilities => [
@@ -42,4 +54,17 @@ abstract class AbstractCMLCommandTest extends AbstractCMLLanguageServerTest {
 		return srcGenFolder
 	}
 
+	def List<WorkspaceEdit> getAppliedEdits() {
+		return appliedEdits
+	}
+
+	def String applyEdit(String text, WorkspaceEdit edit) {
+		val document = new Document(1, text)
+		val result = new StringBuilder(text)
+		for (textEdit : edit.changes.values.flatten.sortBy[document.getOffSet(range.start)].reverseView) {
+			result.replace(document.getOffSet(textEdit.range.start), document.getOffSet(textEdit.range.end), textEdit.newText)
+		}
+		return result.toString
+	}
+
 }
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.ide.tests.edit
+
+import com.google.gson.JsonArray
+import com.google.gson.JsonPrimitive
+import com.google.inject.Inject
+import org.contextmapper.dsl.contextMappingDSL.ContextMappingModel
+import org.contextmapper.dsl.contextMappingDSL.SharedKernel
+import org.contextmapper.dsl.ide.commands.CMLCommandService
+import org.contextmapper.dsl.ide.edit.WorkspaceEditMetrics
+import org.contextmapper.dsl.ide.tests.commands.AbstractCMLCommandTest
+import org.eclipse.emf.common.util.URI
+import org.eclipse.lsp4j.ExecuteCommandParams
+import org.eclipse.xtext.resource.IResourceServiceProvider
+import org.eclipse.xtext.resource.XtextResourceSet
+import org.eclipse.xtext.util.StringInputStream
+import org.junit.jupiter.api.Test
+
+import static org.junit.jupiter.api.Assertions.*
+
+class WorkspaceEditRecorderTest extends AbstractCMLCommandTest {
+
+	static val TEST_MODEL = '''
+		import "./imported.cml"
+		
+		ContextMap {
+			contains TestContext1, TestContext2, ImportedContext
+			
+			TestContext2 [SK]<->[SK] ImportedContext
+		}
+		
+		BoundedContext TestContext1
+		BoundedContext TestContext2
+	'''
+
+	@Inject IResourceServiceProvider.Registry serviceProviderRegistry
+
+	@Test
+	def void canReuseWarmCopyOnSameDocumentVersion() {
+		// given
+		initializeCommandsDynamically()
+		val fileURI = writeTestModel()
+		val metrics = serviceProviderRegistry.getResourceServiceProvider(URI.createURI(fileURI)).get(WorkspaceEditMetrics)
+		metrics.reset
+
+		// when
+		val firstResult = languageServer.executeCommand(new ExecuteCommandParams("cml.ar.mergeBoundedContexts", #[new JsonPrimitive(fileURI), createMergeParams()]))
+		val secondResult = languageServer.executeCommand(new ExecuteCommandParams("cml.ar.mergeBoundedContexts", #[new JsonPrimitive(fileURI), createMergeParams()]))
+
+		// then
+		CMLCommandService.COMMAND_EXECUTED_RETURN_VALUE.assertEquals(firstResult.get as String)
+		CMLCommandService.COMMAND_EXECUTED_RETURN_VALUE.assertEquals(secondResult.get as String)
+		assertEquals(2, metrics.recordingCount)
+		assertEquals(1, metrics.warmCopyMisses)
+		assertEquals(1, metrics.warmCopyHits)
+		assertEquals(2, appliedEdits.size)
+		assertEquals(appliedEdits.get(0), appliedEdits.get(1))
+	}
+
+	@Test
+	def void canSerializeReferencesIntoImportedResource() {
+		// given
+		initializeCommandsDynamically()
+		val fileURI = writeTestModel()
+
+		// when
+		val result = languageServer.executeCommand(new ExecuteCommandParams("cml.ar.mergeBoundedContexts", #[new JsonPrimitive(fileURI), createMergeParams()]))
+
+		// then
+		CMLCommandService.COMMAND_EXECUTED_RETURN_VALUE.assertEquals(result.get as String)
+		assertEquals(1, appliedEdits.size)
+		val edit = appliedEdits.get(0)
+		assertEquals(1, edit.changes.size)
+		val newText = applyEdit(TEST_MODEL, edit)
+		assertTrue(newText.replaceAll("\\s", "").contains("containsTestContext1,ImportedContext"))
+		assertTrue(newText.replaceAll("\\s", "").contains("TestContext1[SK]<->[SK]ImportedContext"))
+		val resourceSet = serviceProviderRegistry.getResourceServiceProvider(URI.createURI(fileURI)).get(XtextResourceSet)
+		val resource = resourceSet.createResource(URI.createURI(fileURI))
+		resource.load(new StringInputStream(newText), emptyMap)
+		val model = resource.contents.head as ContextMappingModel
+		assertEquals(#["TestContext1"], model.boundedContexts.map[name])
+		assertEquals(#["TestContext1", "ImportedContext"], model.map.boundedContexts.map[name])
+		val relationship = model.map.relationships.head as SharedKernel
+		assertEquals("TestContext1", relationship.participant1.name)
+		assertEquals("ImportedContext", relationship.participant2.name)
+		assertFalse(relationship.participant2.eIsProxy)
+		assertEquals("imported.cml", relationship.participant2.eResource.URI.lastSegment)
+	}
+
+	def private String writeTestModel() {
+		'imported.cml'.writeFile('''
+			BoundedContext ImportedContext
+		''')
+		return 'test.cml'.writeFile(TEST_MODEL)
+	}
+
+	def private createMergeParams() {
+		val refactoringParams = new JsonArray
+		refactoringParams.add("TestContext1")
+		refactoringParams.add("TestContext2")
+		return refactoringParams
+	}
+
+}
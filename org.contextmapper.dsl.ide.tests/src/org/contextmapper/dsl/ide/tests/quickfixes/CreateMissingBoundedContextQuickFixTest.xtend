@@ -15,10 +15,15 @@
  */
 package org.contextmapper.dsl.ide.tests.quickfixes
 
-import org.contextmapper.dsl.ide.tests.AbstractCMLLanguageServerTest
+import com.google.gson.JsonPrimitive
+import org.contextmapper.dsl.ide.commands.CMLCommandService
+import org.contextmapper.dsl.ide.tests.commands.AbstractCMLCommandTest
+import org.eclipse.lsp4j.ExecuteCommandParams
 import org.junit.jupiter.api.Test
 
-class CreateMissingBoundedContextQuickFixTest extends AbstractCMLLanguageServerTest {
+import static org.junit.jupiter.api.Assertions.*
+
+class CreateMissingBoundedContextQuickFixTest extends AbstractCMLCommandTest {
 
 	@Test
 	def void canOfferToCreateMissingContext() {
@@ -31,17 +36,56 @@ class CreateMissingBoundedContextQuickFixTest extends AbstractCMLLanguageServerT
 			expectedCodeActions = '''
 				title : Create a Bounded Context named 'MissingContext'.
 				kind : quickfix
-				command : 
+				command : Command [
+				  title = "Create a Bounded Context named 'MissingContext'."
+				  command = "cml.quickfix.command.apply"
+				  arguments = LinkedList (
+				    "file://«this.root»/MyModel.cml",
+				    "org.eclipse.xtext.diagnostics.Diagnostic.Linking",
+				    "0",
+				    "MissingContext",
+				    "1:10",
+				    "1:24",
+				    "1"
+				  )
+				]
 				codes : org.eclipse.xtext.diagnostics.Diagnostic.Linking
-				edit : changes :
-				    MyModel.cml : ContextMap {
-				        contains MissingContext
-				    }
-				    
-				    BoundedContext MissingContext [[0, 0] .. [3, 0]]
-				documentChanges : 
+				edit : 
 			'''
 		]
 	}
 
+	@Test
+	def void canApplyQuickfix() {
+		// given
+		initializeCommandsDynamically()
+		val model = '''
+			ContextMap {
+				contains MissingContext
+			}
+		'''
+		val fileURI = 'test.cml'.writeFile(model)
+		open(fileURI, model)
+
+		// when
+		val result = languageServer.executeCommand(new ExecuteCommandParams("cml.quickfix.command.apply",
+			#[new JsonPrimitive(fileURI), new JsonPrimitive("org.eclipse.xtext.diagnostics.Diagnostic.Linking"), new JsonPrimitive("0"),
+				new JsonPrimitive("MissingContext"), new JsonPrimitive("1:10"), new JsonPrimitive("1:24"), new JsonPrimitive("1")]))
+		val resultVal = result.get as String
+
+		// then
+		CMLCommandService.COMMAND_EXECUTED_RETURN_VALUE.assertEquals(resultVal)
+		assertEquals(1, appliedEdits.size)
+		'''
+			changes :
+			    test.cml : ContextMap {
+			        contains MissingContext
+			    }
+			    
+			    BoundedContext MissingContext [[0, 0] .. [3, 0]]
+			documentChanges : 
+		'''.toString.assertEquals(appliedEdits.head.toExpectation)
+		assertTrue(applyEdit(model, appliedEdits.head).replaceAll("\\s", "").endsWith("}BoundedContextMissingContext"))
+	}
+
 }
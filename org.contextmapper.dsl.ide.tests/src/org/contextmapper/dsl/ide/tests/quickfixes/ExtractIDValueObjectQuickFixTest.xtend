@@ -15,10 +15,29 @@
  */
 package org.contextmapper.dsl.ide.tests.quickfixes
 
-import org.contextmapper.dsl.ide.tests.AbstractCMLLanguageServerTest
+import com.google.gson.JsonPrimitive
+import org.contextmapper.dsl.ide.commands.CMLCommandService
+import org.contextmapper.dsl.ide.tests.commands.AbstractCMLCommandTest
+import org.eclipse.lsp4j.DidCloseTextDocumentParams
+import org.eclipse.lsp4j.ExecuteCommandParams
+import org.eclipse.lsp4j.TextDocumentIdentifier
 import org.junit.jupiter.api.Test
 
-class ExtractIDValueObjectQuickFixTest extends AbstractCMLLanguageServerTest {
+import static org.junit.jupiter.api.Assertions.*
+
+class ExtractIDValueObjectQuickFixTest extends AbstractCMLCommandTest {
+
+	static val TEST_MODEL = '''
+		BoundedContext TestContext {
+			Aggregate TestAggregate {
+				Entity Customer { 
+					String customerId
+					String firstname
+					String lastname
+				}
+			}
+		}
+	'''
 
 	@Test
 	def void canOfferCodeAction() {
@@ -41,24 +60,99 @@ class ExtractIDValueObjectQuickFixTest extends AbstractCMLLanguageServerTest {
 				    file://«this.root»/MyModel.cml,TestContext
 				title : Extract Value Object
 				kind : quickfix
-				command : 
+				command : Command [
+				  title = "Extract Value Object"
+				  command = "cml.quickfix.command.apply"
+				  arguments = LinkedList (
+				    "file://«this.root»/MyModel.cml",
+				    "primitive-id-detected",
+				    "0",
+				    "",
+				    "3:10",
+				    "3:20",
+				    "1"
+				  )
+				]
 				codes : primitive-id-detected
-				edit : changes :
-				    MyModel.cml : 
-				        Aggregate TestAggregate {
-				            Entity Customer {
-				                String firstname
-				                String lastname
-				                - CustomerId customerId
-				            }
-				            ValueObject CustomerId {
-				                String id
-				            }
-				        }
-				     [[0, 28] .. [8, 0]]
-				documentChanges : 
+				edit : 
 			'''
 		]
 	}
 
+	@Test
+	def void canApplyQuickfix() {
+		// given
+		initializeCommandsDynamically()
+		val fileURI = openTestModel(TEST_MODEL)
+
+		// when
+		val result = languageServer.executeCommand(new ExecuteCommandParams("cml.quickfix.command.apply", createArguments(fileURI, "1")))
+		val resultVal = result.get as String
+
+		// then
+		CMLCommandService.COMMAND_EXECUTED_RETURN_VALUE.assertEquals(resultVal)
+		assertEquals(1, appliedEdits.size)
+		'''
+			changes :
+			    test.cml : 
+			        Aggregate TestAggregate {
+			            Entity Customer {
+			                String firstname
+			                String lastname
+			                - CustomerId customerId
+			            }
+			            ValueObject CustomerId {
+			                String id
+			            }
+			        }
+			     [[0, 28] .. [8, 0]]
+			documentChanges : 
+		'''.toString.assertEquals(appliedEdits.head.toExpectation)
+	}
+
+	@Test
+	def void canApplyQuickfixAfterDocumentHasBeenReopened() {
+		// given
+		initializeCommandsDynamically()
+		val fileURI = openTestModel(TEST_MODEL)
+		languageServer.executeCommand(new ExecuteCommandParams("cml.quickfix.command.apply", createArguments(fileURI, "1"))).get
+		languageServer.didClose(new DidCloseTextDocumentParams(new TextDocumentIdentifier(fileURI)))
+		openTestModel(TEST_MODEL.replace("lastname", "surname"))
+
+		// when
+		val result = languageServer.executeCommand(new ExecuteCommandParams("cml.quickfix.command.apply", createArguments(fileURI, "1")))
+		val resultVal = result.get as String
+
+		// then
+		CMLCommandService.COMMAND_EXECUTED_RETURN_VALUE.assertEquals(resultVal)
+		assertEquals(2, appliedEdits.size)
+		assertTrue(appliedEdits.get(1).toExpectation.contains("String surname"))
+		assertFalse(appliedEdits.get(1).toExpectation.contains("String lastname"))
+	}
+
+	@Test
+	def void cannotApplyQuickfixOfOutdatedDocument() {
+		// given
+		initializeCommandsDynamically()
+		val fileURI = openTestModel(TEST_MODEL)
+
+		// when
+		val result = languageServer.executeCommand(new ExecuteCommandParams("cml.quickfix.command.apply", createArguments(fileURI, "0")))
+		val resultVal = result.get as String
+
+		// then
+		assertTrue(resultVal.startsWith(CMLCommandService.COMMAND_EXECUTION_ERROR_PREFIX))
+	}
+
+	def private String openTestModel(String model) {
+		val fileURI = 'test.cml'.writeFile(model)
+		open(fileURI, model)
+		return fileURI
+	}
+
+	def private createArguments(String fileURI, String documentVersion) {
+		return #[new JsonPrimitive(fileURI), new JsonPrimitive("primitive-id-detected"), new JsonPrimitive("0"), new JsonPrimitive(""),
+			new JsonPrimitive("3:10"), new JsonPrimitive("3:20"), new JsonPrimitive(documentVersion)]
+	}
+
 }
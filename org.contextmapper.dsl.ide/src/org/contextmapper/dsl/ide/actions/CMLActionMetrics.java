@@ -0,0 +1,136 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.ide.actions;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.google.inject.Singleton;
+
+/**
+ * Collects how often and how long the code actions (refactorings and
+ * transformations) have been evaluated, so that slow actions can be
+ * identified. An evaluation covers the construction of the action, the
+ * applicability check and, if the action is applicable, the creation of its
+ * command.
+ * 
+ * @author The Context Mapper Project Team
+ *
+ */
+@Singleton
+public class CMLActionMetrics {
+
+	private final Map<String, ActionMetric> metrics = new ConcurrentHashMap<>();
+	private final AtomicLong cacheHits = new AtomicLong();
+	private final AtomicLong cacheMisses = new AtomicLong();
+
+	void recordEvaluation(String actionName, long durationNanos) {
+		metrics.computeIfAbsent(actionName, name -> new ActionMetric()).record(durationNanos);
+	}
+
+	void recordCacheHit() {
+		cacheHits.incrementAndGet();
+	}
+
+	void recordCacheMiss() {
+		cacheMisses.incrementAndGet();
+	}
+
+	/**
+	 * Returns the names of all actions that have been evaluated at least once.
+	 */
+	public Set<String> getActionNames() {
+		return metrics.keySet();
+	}
+
+	public long getEvaluationCount(String actionName) {
+		ActionMetric metric = metrics.get(actionName);
+		return metric == null ? 0 : metric.getCount();
+	}
+
+	public long getTotalEvaluationTime(String actionName, TimeUnit unit) {
+		ActionMetric metric = metrics.get(actionName);
+		return metric == null ? 0 : unit.convert(metric.getTotalNanos(), TimeUnit.NANOSECONDS);
+	}
+
+	public long getMaxEvaluationTime(String actionName, TimeUnit unit) {
+		ActionMetric metric = metrics.get(actionName);
+		return metric == null ? 0 : unit.convert(metric.getMaxNanos(), TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Returns how many requests have been answered with cached applicability
+	 * results (no action has been evaluated).
+	 */
+	public long getCacheHits() {
+		return cacheHits.get();
+	}
+
+	public long getCacheMisses() {
+		return cacheMisses.get();
+	}
+
+	public void reset() {
+		metrics.clear();
+		cacheHits.set(0);
+		cacheMisses.set(0);
+	}
+
+	/**
+	 * Lists all evaluated actions, the slowest (total evaluation time) first.
+	 */
+	@Override
+	public String toString() {
+		StringBuilder report = new StringBuilder();
+		report.append("Code action cache: ").append(cacheHits.get()).append(" hits, ").append(cacheMisses.get()).append(" misses");
+		metrics.entrySet().stream().sorted(Comparator.comparingLong((Map.Entry<String, ActionMetric> e) -> e.getValue().getTotalNanos()).reversed())
+				.forEach(e -> report.append(System.lineSeparator()).append(e.getKey()).append(": ").append(e.getValue().getCount()).append(" evaluations, ")
+						.append(TimeUnit.NANOSECONDS.toMicros(e.getValue().getTotalNanos())).append(" us total, ")
+						.append(TimeUnit.NANOSECONDS.toMicros(e.getValue().getMaxNanos())).append(" us max"));
+		return report.toString();
+	}
+
+	private static class ActionMetric {
+
+		private long count;
+		private long totalNanos;
+		private long maxNanos;
+
+		synchronized void record(long durationNanos) {
+			count++;
+			totalNanos += durationNanos;
+			maxNanos = Math.max(maxNanos, durationNanos);
+		}
+
+		synchronized long getCount() {
+			return count;
+		}
+
+		synchronized long getTotalNanos() {
+			return totalNanos;
+		}
+
+		synchronized long getMaxNanos() {
+			return maxNanos;
+		}
+
+	}
+
+}
@@ -16,13 +16,19 @@
 package org.contextmapper.dsl.ide.actions;
 
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import org.contextmapper.dsl.cml.CMLResource;
+import org.contextmapper.dsl.contextMappingDSL.ContextMappingDSLPackage;
 import org.contextmapper.dsl.exception.ContextMapperApplicationException;
 import org.contextmapper.dsl.ide.actions.impl.AddEthicalValueAssessmentAction;
 import org.contextmapper.dsl.ide.actions.impl.CreateStakeholderForUserStoryRoleAction;
@@ -46,6 +52,7 @@ import org.contextmapper.dsl.ide.actions.impl.SwitchFromPartnershipToSharedKerne
 import org.contextmapper.dsl.ide.actions.impl.SwitchFromSharedKernelToPartnershipAction;
 import org.contextmapper.dsl.ide.actions.impl.WrapValueInClusterAction;
 import org.contextmapper.dsl.ide.edit.WorkspaceEditRecorder;
+import org.contextmapper.dsl.ide.quickfix.QuickFixReference;
 import org.contextmapper.dsl.ide.quickfix.QuickfixCommandMapper;
 import org.contextmapper.dsl.ide.quickfix.impl.OpenCoordinationInSketchMinerCommandMapper;
 import org.contextmapper.dsl.ide.quickfix.impl.OpenFlowInSketchMinerCommandMapper;
@@ -58,6 +65,7 @@ import org.contextmapper.dsl.validation.ApplicationCoordinationSemanticsValidato
 import org.contextmapper.dsl.validation.ApplicationFlowSemanticsValidator;
 import org.contextmapper.dsl.validation.DomainObjectValidator;
 import org.contextmapper.dsl.validation.UserRequirementsValidator;
+import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.util.EcoreUtil;
@@ -65,12 +73,18 @@ import org.eclipse.lsp4j.CodeAction;
 import org.eclipse.lsp4j.CodeActionKind;
 import org.eclipse.lsp4j.Command;
 import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.WorkspaceEdit;
 import org.eclipse.lsp4j.jsonrpc.messages.Either;
+import org.eclipse.xtext.ide.server.Document;
+import org.eclipse.xtext.ide.server.ILanguageServerAccess;
 import org.eclipse.xtext.ide.server.codeActions.ICodeActionService2;
+import org.eclipse.xtext.util.IResourceScopeCache;
 
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
 import com.google.inject.Inject;
+import com.google.inject.Singleton;
 
 /**
  * Class to register all code actions (refactoring and transformation commands)
@@ -80,51 +94,72 @@ import com.google.inject.Inject;
  * @author Stefan Kapferer
  *
  */
+@Singleton
 public class CMLActionRegistry {
 
 	@Inject
 	private WorkspaceEditRecorder editRecorder;
 	@Inject
 	private SelectionContextResolver selectionResolver;
+	@Inject
+	private CMLActionMetrics actionMetrics;
+	@Inject(optional = true)
+	private IResourceScopeCache cache;
+	private List<ActionRegistration> actionRegistrations;
+	private Map<EClass, List<ActionRegistration>> actionsByEClass;
 	private Map<String, List<CMLQuickFix<? extends EObject>>> quickFixActionRegistry;
 	private Map<String, List<QuickfixCommandMapper>> quickFixCommandRegistry;
+	private Map<List<Object>, WorkspaceEdit> resolvedQuickFixEdits;
 
 	private static final String XTEXT_DIAGNOSTICS_PREFIX = "org.eclipse.xtext.diagnostics";
+	private static final String APPLICABLE_COMMANDS_CACHE_KEY = CMLActionRegistry.class.getName() + ".applicableCommands";
+	private static final int MAX_CACHED_SELECTIONS_PER_RESOURCE = 32;
+	private static final int MAX_CACHED_QUICK_FIX_EDITS = 16;
+
+	public static final String APPLY_QUICK_FIX_COMMAND = "cml.quickfix.command.apply";
 
 	public CMLActionRegistry() {
+		this.actionRegistrations = Lists.newArrayList();
+		this.actionsByEClass = new ConcurrentHashMap<>();
 		this.quickFixActionRegistry = Maps.newHashMap();
 		this.quickFixCommandRegistry = Maps.newHashMap();
+		this.resolvedQuickFixEdits = new LinkedHashMap<List<Object>, WorkspaceEdit>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<List<Object>, WorkspaceEdit> eldest) {
+				return size() > MAX_CACHED_QUICK_FIX_EDITS;
+			}
+		};
+		this.registerAllActions();
 		this.registerAllQuickFixes();
 	}
 
-	private List<CMLCodeAction> getAllActions(CMLResource resource, List<EObject> selectedObjects) {
-		List<CMLCodeAction> codeActions = Lists.newLinkedList();
-
-		// add new AR here:
-		codeActions.add(new SplitBoundedContextByOwnerAction(resource, selectedObjects));
-		codeActions.add(new SplitBoundedContextByFeaturesAction(resource, selectedObjects));
-		codeActions.add(new SplitAggregateByEntitiesAction(resource, selectedObjects));
-		codeActions.add(new DeriveSubdomainFromUserRequirementsAction(resource, selectedObjects));
-		codeActions.add(new DeriveBoundedContextFromSubdomainsAction(resource, selectedObjects));
-		codeActions.add(new DeriveFrontendAndBackendFromFeatureBCAction(resource, selectedObjects));
-		codeActions.add(new SplitSystemIntoSubsystemsAction(resource, selectedObjects));
-		codeActions.add(new ExtractAggregatesByVolatilityAction(resource, selectedObjects));
-		codeActions.add(new ExtractAggregatesByCohesionAction(resource, selectedObjects));
-		codeActions.add(new MergeAggregatesAction(resource, selectedObjects));
-		codeActions.add(new MergeBoundedContextsAction(resource, selectedObjects));
-		codeActions.add(new ExtractSharedKernelAction(resource, selectedObjects));
-		codeActions.add(new SuspendPartnershipAction(resource, selectedObjects));
-		codeActions.add(new SwitchFromPartnershipToSharedKernelAction(resource, selectedObjects));
-		codeActions.add(new SwitchFromSharedKernelToPartnershipAction(resource, selectedObjects));
+	private void registerAllActions() {
+		// register new AR here (the EClass defines for which selected objects the
+		// action is constructed and evaluated at all):
+		registerAction(ContextMappingDSLPackage.Literals.BOUNDED_CONTEXT, SplitBoundedContextByOwnerAction::new);
+		registerAction(ContextMappingDSLPackage.Literals.BOUNDED_CONTEXT, SplitBoundedContextByFeaturesAction::new);
+		registerAction(ContextMappingDSLPackage.Literals.AGGREGATE, SplitAggregateByEntitiesAction::new);
+		registerAction(ContextMappingDSLPackage.Literals.USER_REQUIREMENT, DeriveSubdomainFromUserRequirementsAction::new);
+		registerAction(ContextMappingDSLPackage.Literals.SUBDOMAIN, DeriveBoundedContextFromSubdomainsAction::new);
+		registerAction(ContextMappingDSLPackage.Literals.BOUNDED_CONTEXT, DeriveFrontendAndBackendFromFeatureBCAction::new);
+		registerAction(ContextMappingDSLPackage.Literals.BOUNDED_CONTEXT, SplitSystemIntoSubsystemsAction::new);
+		registerAction(ContextMappingDSLPackage.Literals.BOUNDED_CONTEXT, ExtractAggregatesByVolatilityAction::new);
+		registerAction(ContextMappingDSLPackage.Literals.BOUNDED_CONTEXT, ExtractAggregatesByCohesionAction::new);
+		registerAction(ContextMappingDSLPackage.Literals.AGGREGATE, MergeAggregatesAction::new);
+		registerAction(ContextMappingDSLPackage.Literals.BOUNDED_CONTEXT, MergeBoundedContextsAction::new);
+		registerAction(ContextMappingDSLPackage.Literals.SHARED_KERNEL, ExtractSharedKernelAction::new);
+		registerAction(ContextMappingDSLPackage.Literals.PARTNERSHIP, SuspendPartnershipAction::new);
+		registerAction(ContextMappingDSLPackage.Literals.PARTNERSHIP, SwitchFromPartnershipToSharedKernelAction::new);
+		registerAction(ContextMappingDSLPackage.Literals.SHARED_KERNEL, SwitchFromSharedKernelToPartnershipAction::new);
 		// Transformation making problems in VS Code
-		// codeActions.add(new MoveStakeholderToGroupAction(resource, selectedObjects));
-		codeActions.add(new CreateValue4StakeholderAction(resource, selectedObjects));
-		codeActions.add(new AddEthicalValueAssessmentAction(resource, selectedObjects));
-		codeActions.add(new WrapValueInClusterAction(resource, selectedObjects));
-		codeActions.add(new CreateStakeholderForUserStoryRoleAction(resource, selectedObjects));
-		codeActions.add(new CreateValueRegisterForBoundedContextAction(resource, selectedObjects));
-
-		return Lists.newLinkedList(codeActions);
+		// registerAction(ContextMappingDSLPackage.Literals.STAKEHOLDER, MoveStakeholderToGroupAction::new);
+		registerAction(ContextMappingDSLPackage.Literals.STAKEHOLDER, CreateValue4StakeholderAction::new);
+		registerAction(ContextMappingDSLPackage.Literals.USER_STORY, AddEthicalValueAssessmentAction::new);
+		registerAction(ContextMappingDSLPackage.Literals.VALUE, WrapValueInClusterAction::new);
+		registerAction(ContextMappingDSLPackage.Literals.USER_STORY, CreateStakeholderForUserStoryRoleAction::new);
+		registerAction(ContextMappingDSLPackage.Literals.BOUNDED_CONTEXT, CreateValueRegisterForBoundedContextAction::new);
 	}
 
 	private void registerAllQuickFixes() {
@@ -135,9 +170,63 @@ public class CMLActionRegistry {
 		registerCommandQuickFix(ApplicationCoordinationSemanticsValidator.SKETCH_MINER_INFO_ID, new OpenCoordinationInSketchMinerCommandMapper());
 	}
 
+	/**
+	 * Returns the commands of all actions that can be applied to the given
+	 * selection. Only the actions registered for the types of the selected
+	 * objects are evaluated; the result is cached until the resource changes.
+	 */
 	public List<? extends Command> getApplicableActionCommands(CMLResource resource, List<EObject> selectedObjects) {
-		List<? extends Command> result = getAllActions(resource, selectedObjects).stream().filter(a -> a.isApplicable()).map(a -> a.getCommand()).collect(Collectors.toList());
-		return result;
+		if (cache == null)
+			return evaluateActions(resource, selectedObjects);
+
+		List<EObject> selection = Lists.newArrayList(selectedObjects);
+		SelectionCache selectionCache = cache.get(APPLICABLE_COMMANDS_CACHE_KEY, resource, SelectionCache::new);
+		synchronized (selectionCache) {
+			List<Command> commands = selectionCache.get(selection);
+			if (commands != null) {
+				actionMetrics.recordCacheHit();
+				return commands;
+			}
+		}
+		actionMetrics.recordCacheMiss();
+		List<Command> commands = Collections.unmodifiableList(evaluateActions(resource, selection));
+		synchronized (selectionCache) {
+			selectionCache.put(selection, commands);
+		}
+		return commands;
+	}
+
+	/**
+	 * The evaluation counts and times of the actions.
+	 */
+	public CMLActionMetrics getActionMetrics() {
+		return actionMetrics;
+	}
+
+	private List<Command> evaluateActions(CMLResource resource, List<EObject> selectedObjects) {
+		List<Command> commands = Lists.newArrayList();
+		for (ActionRegistration registration : getCandidateActions(selectedObjects)) {
+			long start = System.nanoTime();
+			CMLCodeAction action = registration.factory.apply(resource, selectedObjects);
+			if (action.isApplicable())
+				commands.add(action.getCommand());
+			actionMetrics.recordEvaluation(action.getClass().getSimpleName(), System.nanoTime() - start);
+		}
+		return commands;
+	}
+
+	private List<ActionRegistration> getCandidateActions(List<EObject> selectedObjects) {
+		Set<ActionRegistration> candidates = Sets.newHashSet();
+		for (EObject selectedObject : selectedObjects) {
+			if (selectedObject != null)
+				candidates.addAll(actionsByEClass.computeIfAbsent(selectedObject.eClass(), this::findActionsForEClass));
+		}
+		// keep the registration order (order of the actions in the editor)
+		return actionRegistrations.stream().filter(candidates::contains).collect(Collectors.toList());
+	}
+
+	private List<ActionRegistration> findActionsForEClass(EClass eClass) {
+		return actionRegistrations.stream().filter(r -> r.eClass.isSuperTypeOf(eClass)).collect(Collectors.toList());
 	}
 
 	public List<Either<Command, CodeAction>> getApplicableQuickfixes(Diagnostic diagnostic, ICodeActionService2.Options options) {
@@ -160,8 +249,10 @@ public class CMLActionRegistry {
 		if (quickFixActionRegistry.get(validationId) == null || quickFixActionRegistry.get(validationId).isEmpty())
 			return codeActions;
 
-		for (CMLQuickFix<? extends EObject> quickFix : quickFixActionRegistry.get(validationId)) {
-			codeActions.add(Either.forRight(createQuickFixCodeAction(quickFix, diagnostic, options, false)));
+		List<CMLQuickFix<? extends EObject>> quickFixes = quickFixActionRegistry.get(validationId);
+		for (int i = 0; i < quickFixes.size(); i++) {
+			QuickFixReference reference = new QuickFixReference(validationId, i, "", diagnostic.getRange(), getDocumentVersion(options.getDocument()));
+			codeActions.add(Either.forRight(createQuickFixCodeAction(quickFixes.get(i), reference, diagnostic, options)));
 		}
 		return codeActions;
 	}
@@ -186,25 +277,67 @@ public class CMLActionRegistry {
 		return codeActions;
 	}
 
-	private CodeAction createQuickFixCodeAction(CMLQuickFix<? extends EObject> quickFix, Diagnostic diagnostic, ICodeActionService2.Options options, boolean useRootContext) {
+	private CodeAction createQuickFixCodeAction(CMLQuickFix<? extends EObject> quickFix, QuickFixReference reference, Diagnostic diagnostic, ICodeActionService2.Options options) {
 		CodeAction action = new CodeAction(quickFix.getName());
 		action.setDiagnostics(Arrays.asList(new Diagnostic[] { diagnostic }));
 		action.setKind(CodeActionKind.QuickFix);
-		action.setEdit(editRecorder.recordWorkspaceEdit(options.getLanguageServerAccess(), options.getResource().getURI(), options.getDocument(), (Resource resource) -> {
-			CMLResource cmlResource = new CMLResource(resource);
+		// the edit is only recorded once the user selects the quick fix
+		action.setCommand(new Command(quickFix.getName(), APPLY_QUICK_FIX_COMMAND, reference.toCommandArguments(options.getResource().getURI().toString())));
+		return action;
+	}
+
+	/**
+	 * Records the edit of a quick fix offered by
+	 * {@link #getApplicableQuickfixes(Diagnostic, ICodeActionService2.Options)}.
+	 * The edits of the last resolved quick fixes are cached per document content
+	 * (versions start over when a document is reopened); a quick fix offered for
+	 * an older version of the document is rejected.
+	 */
+	public WorkspaceEdit resolveQuickFixEdit(ILanguageServerAccess access, CMLResource cmlResource, Document document, QuickFixReference reference) {
+		if (getDocumentVersion(document) != reference.getDocumentVersion())
+			throw new ContextMapperApplicationException("The quick fix could not be applied: the document has changed in the meantime.");
+
+		List<Object> cacheKey = Arrays.asList(cmlResource.getURI().toString(), document.getContents(), reference);
+		synchronized (resolvedQuickFixEdits) {
+			WorkspaceEdit edit = resolvedQuickFixEdits.get(cacheKey);
+			if (edit != null)
+				return edit;
+		}
+		CMLQuickFix<? extends EObject> quickFix = getQuickFix(reference);
+		boolean useRootContext = reference.getValidationCode().startsWith(XTEXT_DIAGNOSTICS_PREFIX);
+		int startOffset = document.getOffSet(reference.getRange().getStart());
+		int endOffset = document.getOffSet(reference.getRange().getEnd());
+		WorkspaceEdit edit = editRecorder.recordWorkspaceEdit(access, cmlResource.getURI(), document, (Resource resource) -> {
+			CMLResource copiedCMLResource = new CMLResource(resource);
 			if (useRootContext) {
-				quickFix.applyQuickfix2EObject(cmlResource.getContextMappingModel());
+				quickFix.applyQuickfix2EObject(copiedCMLResource.getContextMappingModel());
 			} else {
-				List<EObject> objects = selectionResolver.resolveAllSelectedEObjects(cmlResource, options.getDocument().getOffSet(diagnostic.getRange().getStart()),
-						options.getDocument().getOffSet(diagnostic.getRange().getEnd()));
+				List<EObject> objects = selectionResolver.resolveAllSelectedEObjects(copiedCMLResource, startOffset, endOffset);
 				if (objects.isEmpty())
 					throw new ContextMapperApplicationException("Selected object for quick fix could not be found.");
 
 				// we can assume that there is only one object per validation message
 				quickFix.applyQuickfix2EObject(EcoreUtil.resolve(objects.get(0), resource));
 			}
-		}));
-		return action;
+		});
+		synchronized (resolvedQuickFixEdits) {
+			resolvedQuickFixEdits.put(cacheKey, edit);
+		}
+		return edit;
+	}
+
+	private int getDocumentVersion(Document document) {
+		return document.getVersion() == null ? 0 : document.getVersion();
+	}
+
+	private CMLQuickFix<? extends EObject> getQuickFix(QuickFixReference reference) {
+		if (org.eclipse.xtext.diagnostics.Diagnostic.LINKING_DIAGNOSTIC.equals(reference.getValidationCode()))
+			return new CreateMissingBoundedContextQuickFix(reference.getArgument());
+
+		List<CMLQuickFix<? extends EObject>> quickFixes = quickFixActionRegistry.get(reference.getValidationCode());
+		if (quickFixes == null || reference.getQuickFixIndex() < 0 || reference.getQuickFixIndex() >= quickFixes.size())
+			throw new ContextMapperApplicationException("There is no quick fix for the validation code '" + reference.getValidationCode() + "'.");
+		return quickFixes.get(reference.getQuickFixIndex());
 	}
 
 	private List<Either<Command, CodeAction>> createQuickFixes4XtextDiagnostics(Diagnostic diagnostic, ICodeActionService2.Options options) {
@@ -215,12 +348,18 @@ public class CMLActionRegistry {
 			Matcher matcher = pattern.matcher(diagnostic.getMessage());
 			if (matcher.find()) {
 				CreateMissingBoundedContextQuickFix quickFix = new CreateMissingBoundedContextQuickFix(matcher.group(1));
-				quickFixCodeActions.add(Either.forRight(createQuickFixCodeAction(quickFix, diagnostic, options, true)));
+				QuickFixReference reference = new QuickFixReference(org.eclipse.xtext.diagnostics.Diagnostic.LINKING_DIAGNOSTIC, 0, matcher.group(1), diagnostic.getRange(),
+						getDocumentVersion(options.getDocument()));
+				quickFixCodeActions.add(Either.forRight(createQuickFixCodeAction(quickFix, reference, diagnostic, options)));
 			}
 		}
 		return quickFixCodeActions;
 	}
 
+	private void registerAction(EClass eClass, BiFunction<CMLResource, List<EObject>, CMLCodeAction> factory) {
+		actionRegistrations.add(new ActionRegistration(eClass, factory));
+	}
+
 	private void registerActionQuickFix(String validationId, CMLQuickFix<? extends EObject> quickFix) {
 		if (!quickFixActionRegistry.containsKey(validationId))
 			quickFixActionRegistry.put(validationId, Lists.newLinkedList());
@@ -233,4 +372,36 @@ public class CMLActionRegistry {
 		quickFixCommandRegistry.get(validationId).add(actionMapper);
 	}
 
+	private static class ActionRegistration {
+
+		private final EClass eClass;
+		private final BiFunction<CMLResource, List<EObject>, CMLCodeAction> factory;
+
+		ActionRegistration(EClass eClass, BiFunction<CMLResource, List<EObject>, CMLCodeAction> factory) {
+			this.eClass = eClass;
+			this.factory = factory;
+		}
+
+	}
+
+	/**
+	 * The applicable commands of the last selections within one resource state.
+	 * The resource scope cache drops it as soon as the resource changes (new
+	 * modification stamp); the selections are compared by object identity.
+	 */
+	private static class SelectionCache extends LinkedHashMap<List<EObject>, List<Command>> {
+
+		private static final long serialVersionUID = 1L;
+
+		SelectionCache() {
+			super(16, 0.75f, true);
+		}
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<List<EObject>, List<Command>> eldest) {
+			return size() > MAX_CACHED_SELECTIONS_PER_RESOURCE;
+		}
+
+	}
+
 }
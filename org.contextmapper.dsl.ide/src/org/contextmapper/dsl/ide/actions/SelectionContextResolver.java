@@ -16,18 +16,30 @@
 package org.contextmapper.dsl.ide.actions;
 
 import java.util.List;
+import java.util.Set;
 
 import org.contextmapper.dsl.cml.CMLResource;
 import org.eclipse.emf.ecore.EObject;
+import org.eclipse.xtext.nodemodel.ICompositeNode;
+import org.eclipse.xtext.nodemodel.ILeafNode;
+import org.eclipse.xtext.nodemodel.INode;
+import org.eclipse.xtext.nodemodel.util.NodeModelUtils;
+import org.eclipse.xtext.parser.IParseResult;
 import org.eclipse.xtext.resource.EObjectAtOffsetHelper;
 import org.eclipse.xtext.resource.XtextResource;
 
 import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
 import com.google.inject.Inject;
 
 /**
  * Helper method to find all selected EObject (currently selected in editor).
  * 
+ * The element at an offset only depends on the leaf node at that offset (and on
+ * the previous leaf, if the offset is the first one of a leaf). Therefore the
+ * leaf nodes of the selection are walked once and the elements are resolved at
+ * most twice per leaf, instead of once per selected character.
+ * 
  * @author Stefan Kapferer
  *
  */
@@ -37,16 +49,60 @@ public class SelectionContextResolver {
 	private EObjectAtOffsetHelper offsetHelper;
 
 	public List<EObject> resolveAllSelectedEObjects(CMLResource resource, int startOffset, int endOffset) {
-		List<EObject> objectList = Lists.newLinkedList();
+		XtextResource cmlResource = (XtextResource) resource.getXtextResource();
+		Set<EObject> objects = Sets.newLinkedHashSet();
+		for (int offset : getRelevantOffsets(cmlResource, startOffset, endOffset)) {
+			objects.add(offsetHelper.resolveElementAt(cmlResource, offset));
+		}
+		return Lists.newArrayList(objects);
+	}
+
+	private List<Integer> getRelevantOffsets(XtextResource resource, int startOffset, int endOffset) {
+		List<Integer> offsets = Lists.newArrayList();
+		if (startOffset > endOffset)
+			return offsets;
+
+		IParseResult parseResult = resource.getParseResult();
+		if (parseResult == null) {
+			offsets.add(startOffset);
+			return offsets;
+		}
 
-		for (int i = startOffset; i <= endOffset; i++) {
-			XtextResource cmlResource = (XtextResource) resource.getXtextResource();
-			EObject object = offsetHelper.resolveElementAt(cmlResource, i);
-			if (!objectList.contains(object))
-				objectList.add(object);
+		ICompositeNode rootNode = parseResult.getRootNode();
+		ILeafNode leaf = NodeModelUtils.findLeafNodeAtOffset(rootNode, startOffset);
+		while (leaf != null && leaf.getTotalOffset() <= endOffset) {
+			if (leaf.getTotalLength() > 0) {
+				// first selected offset of the leaf and, if that is its first offset, the
+				// second one (all further offsets resolve to the same element)
+				int offset = Math.max(startOffset, leaf.getTotalOffset());
+				offsets.add(offset);
+				if (offset == leaf.getTotalOffset() && offset + 1 < leaf.getTotalEndOffset() && offset + 1 <= endOffset)
+					offsets.add(offset + 1);
+			}
+			leaf = getNextLeaf(leaf);
 		}
 
-		return objectList;
+		// offsets after the last leaf (end of the document)
+		if (endOffset >= rootNode.getTotalEndOffset())
+			offsets.add(Math.max(startOffset, rootNode.getTotalEndOffset()));
+		return offsets;
+	}
+
+	private ILeafNode getNextLeaf(INode node) {
+		INode current = node;
+		while (current != null && !current.hasNextSibling())
+			current = current.getParent();
+		if (current == null)
+			return null;
+
+		INode next = current.getNextSibling();
+		while (next instanceof ICompositeNode) {
+			ICompositeNode composite = (ICompositeNode) next;
+			if (!composite.hasChildren())
+				return getNextLeaf(composite);
+			next = composite.getFirstChild();
+		}
+		return (ILeafNode) next;
 	}
 
 }
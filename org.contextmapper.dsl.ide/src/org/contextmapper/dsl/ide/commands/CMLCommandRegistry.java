@@ -18,11 +18,13 @@ package org.contextmapper.dsl.ide.commands;
 import java.util.Map;
 import java.util.Set;
 
+import org.contextmapper.dsl.ide.actions.CMLActionRegistry;
 import org.contextmapper.dsl.ide.commands.impl.generation.ContextMapGenerationCommand;
 import org.contextmapper.dsl.ide.commands.impl.generation.GenericTextFileGenerationCommand;
 import org.contextmapper.dsl.ide.commands.impl.generation.MDSLGenerationCommand;
 import org.contextmapper.dsl.ide.commands.impl.generation.PlantUMLGenerationCommand;
 import org.contextmapper.dsl.ide.commands.impl.generation.SketchMinerGenerationCommand;
+import org.contextmapper.dsl.ide.commands.impl.quickfix.ApplyQuickFixCommand;
 import org.contextmapper.dsl.ide.commands.impl.quickfix.SplitStoryByVerbCommand;
 import org.contextmapper.dsl.ide.commands.impl.refactoring.AddEthicalValueAssessmentCommand;
 import org.contextmapper.dsl.ide.commands.impl.refactoring.CreateStakeholderForUserStoryRoleCommand;
@@ -62,10 +64,12 @@ public class CMLCommandRegistry {
 
 	private Map<String, CMLResourceCommand> commandMap = Maps.newHashMap();
 	private WorkspaceEditRecorder editRecorder;
+	private CMLActionRegistry actionRegistry;
 
 	@Inject
-	public CMLCommandRegistry(WorkspaceEditRecorder editRecorder) {
+	public CMLCommandRegistry(WorkspaceEditRecorder editRecorder, CMLActionRegistry actionRegistry) {
 		this.editRecorder = editRecorder;
+		this.actionRegistry = actionRegistry;
 		registerCommands();
 	}
 
@@ -91,6 +95,7 @@ public class CMLCommandRegistry {
 		commandMap.put("cml.ar.switchPartnershipToSharedKernel", new SwitchFromPartnershipToSharedKernelCommand(editRecorder));
 		commandMap.put("cml.ar.switchSharedKernelToPartnership", new SwitchFromSharedKernelToPartnershipCommand(editRecorder));
 		commandMap.put("cml.quickfix.command.splitStoryByVerb", new SplitStoryByVerbCommand(editRecorder));
+		commandMap.put(CMLActionRegistry.APPLY_QUICK_FIX_COMMAND, new ApplyQuickFixCommand(actionRegistry));
 		// Transformation making problems in VS Code
 		// commandMap.put("cml.ar.moveStakeholderToGroup", new MoveStakeholderToGroupCommand(editRecorder));
 		commandMap.put("cml.ar.createValueForStakeholder", new CreateValue4StakeholderCommand(editRecorder));
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.ide.commands.impl.quickfix;
+
+import org.contextmapper.dsl.cml.CMLResource;
+import org.contextmapper.dsl.ide.actions.CMLActionRegistry;
+import org.contextmapper.dsl.ide.commands.CMLResourceCommand;
+import org.contextmapper.dsl.ide.quickfix.QuickFixReference;
+import org.eclipse.lsp4j.ApplyWorkspaceEditParams;
+import org.eclipse.lsp4j.ExecuteCommandParams;
+import org.eclipse.xtext.ide.server.Document;
+import org.eclipse.xtext.ide.server.ILanguageServerAccess;
+
+/**
+ * Applies a quick fix that has been offered without edit; the edit is recorded
+ * when this command is executed.
+ * 
+ * @author The Context Mapper Project Team
+ *
+ */
+public class ApplyQuickFixCommand implements CMLResourceCommand {
+
+	private CMLActionRegistry actionRegistry;
+
+	public ApplyQuickFixCommand(CMLActionRegistry actionRegistry) {
+		this.actionRegistry = actionRegistry;
+	}
+
+	@Override
+	public void executeCommand(CMLResource cmlResource, Document document, ILanguageServerAccess access, ExecuteCommandParams params) {
+		QuickFixReference reference = QuickFixReference.fromCommandArguments(params.getArguments());
+		access.getLanguageClient().applyEdit(new ApplyWorkspaceEditParams(actionRegistry.resolveQuickFixEdit(access, cmlResource, document, reference), "Apply Quickfix"));
+	}
+
+}
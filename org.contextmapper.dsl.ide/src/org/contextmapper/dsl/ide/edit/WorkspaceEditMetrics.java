@@ -0,0 +1,137 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.ide.edit;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.google.inject.Singleton;
+
+/**
+ * Collects how long the phases of recording workspace edits (refactorings and
+ * quick fixes) take and how often a warm copy of the edited resource could be
+ * reused.
+ * 
+ * @author The Context Mapper Project Team
+ *
+ */
+@Singleton
+public class WorkspaceEditMetrics {
+
+	/**
+	 * The phases of a recording: copying the resource into a new resource set,
+	 * resolving its local cross references, applying the modification and
+	 * serializing the changes into text edits.
+	 */
+	public enum Phase {
+		COPY, RESOLVE, MODIFY, SERIALIZE
+	}
+
+	private final Map<Phase, PhaseMetric> metrics = new EnumMap<>(Phase.class);
+	private final AtomicLong recordings = new AtomicLong();
+	private final AtomicLong warmCopyHits = new AtomicLong();
+	private final AtomicLong warmCopyMisses = new AtomicLong();
+
+	public WorkspaceEditMetrics() {
+		for (Phase phase : Phase.values()) {
+			metrics.put(phase, new PhaseMetric());
+		}
+	}
+
+	void recordPhase(Phase phase, long durationNanos) {
+		metrics.get(phase).record(durationNanos);
+	}
+
+	void recordRecording(boolean warmCopyReused) {
+		recordings.incrementAndGet();
+		if (warmCopyReused)
+			warmCopyHits.incrementAndGet();
+		else
+			warmCopyMisses.incrementAndGet();
+	}
+
+	public long getRecordingCount() {
+		return recordings.get();
+	}
+
+	public long getTotalTime(Phase phase, TimeUnit unit) {
+		return unit.convert(metrics.get(phase).getTotalNanos(), TimeUnit.NANOSECONDS);
+	}
+
+	public long getMaxTime(Phase phase, TimeUnit unit) {
+		return unit.convert(metrics.get(phase).getMaxNanos(), TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Returns how many recordings could reuse the resource set of a previous
+	 * recording on the same document version (imported resources already
+	 * loaded).
+	 */
+	public long getWarmCopyHits() {
+		return warmCopyHits.get();
+	}
+
+	public long getWarmCopyMisses() {
+		return warmCopyMisses.get();
+	}
+
+	public void reset() {
+		metrics.values().forEach(PhaseMetric::reset);
+		recordings.set(0);
+		warmCopyHits.set(0);
+		warmCopyMisses.set(0);
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder report = new StringBuilder();
+		report.append("Workspace edits: ").append(recordings.get()).append(" recordings, ").append(warmCopyHits.get()).append(" warm copies reused");
+		for (Phase phase : Phase.values()) {
+			report.append(System.lineSeparator()).append(phase.name().toLowerCase()).append(": ")
+					.append(TimeUnit.NANOSECONDS.toMicros(metrics.get(phase).getTotalNanos())).append(" us total, ")
+					.append(TimeUnit.NANOSECONDS.toMicros(metrics.get(phase).getMaxNanos())).append(" us max");
+		}
+		return report.toString();
+	}
+
+	private static class PhaseMetric {
+
+		private long totalNanos;
+		private long maxNanos;
+
+		synchronized void record(long durationNanos) {
+			totalNanos += durationNanos;
+			maxNanos = Math.max(maxNanos, durationNanos);
+		}
+
+		synchronized long getTotalNanos() {
+			return totalNanos;
+		}
+
+		synchronized long getMaxNanos() {
+			return maxNanos;
+		}
+
+		synchronized void reset() {
+			totalNanos = 0;
+			maxNanos = 0;
+		}
+
+	}
+
+}
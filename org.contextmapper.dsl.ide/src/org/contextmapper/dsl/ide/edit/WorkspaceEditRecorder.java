@@ -16,14 +16,22 @@
 package org.contextmapper.dsl.ide.edit;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.contextmapper.dsl.exception.RefactoringSerializationException;
+import org.contextmapper.dsl.ide.edit.WorkspaceEditMetrics.Phase;
+import org.eclipse.emf.common.util.TreeIterator;
 import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.InternalEObject;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.resource.ResourceSet;
 import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.emf.ecore.util.InternalEList;
 import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4j.TextEdit;
 import org.eclipse.lsp4j.WorkspaceEdit;
@@ -33,33 +41,84 @@ import org.eclipse.xtext.ide.serializer.IEmfResourceChange;
 import org.eclipse.xtext.ide.serializer.ITextDocumentChange;
 import org.eclipse.xtext.ide.server.Document;
 import org.eclipse.xtext.ide.server.ILanguageServerAccess;
+import org.eclipse.xtext.linking.ILinkingService;
+import org.eclipse.xtext.linking.lazy.LazyURIEncoder;
+import org.eclipse.xtext.nodemodel.INode;
 import org.eclipse.xtext.util.CollectionBasedAcceptor;
+import org.eclipse.xtext.util.Triple;
 import org.eclipse.xtext.xbase.lib.ListExtensions;
 
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Sets;
 import com.google.inject.Inject;
 import com.google.inject.Provider;
+import com.google.inject.Singleton;
 
 /**
  * Records a WorkspaceEdit for a semantic CML model change (IModification) by
  * using IChangeSerializer.
  * 
+ * The resource is copied into a live scope resource set. Its cross references
+ * are resolved before the modification without loading other resources:
+ * references into imported resources that are not loaded yet are replaced by
+ * the proxies of the global scope and resolved only if the modification (or
+ * the serializer) needs them. The
+ * resource set is kept warm for further recordings on the same document
+ * version, so that imported resources are loaded only once. Any workspace
+ * build discards the warm resource sets.
+ * 
  * @author Stefan Kapferer
  *
  */
+@Singleton
 public class WorkspaceEditRecorder {
 
+	private static final int MAX_WARM_RESOURCE_SETS = 4;
+
 	@Inject
 	private Provider<IChangeSerializer> serializerProvider;
+	@Inject
+	private LazyURIEncoder uriEncoder;
+	@Inject
+	private ILinkingService linkingService;
+	@Inject
+	private WorkspaceEditMetrics metrics;
+
+	private final Map<URI, WarmResourceSet> warmResourceSets = new LinkedHashMap<URI, WarmResourceSet>(16, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<URI, WarmResourceSet> eldest) {
+			return size() > MAX_WARM_RESOURCE_SETS;
+		}
+	};
+	private final Set<ILanguageServerAccess> observedAccesses = Sets.newIdentityHashSet();
 
 	@SuppressWarnings("restriction")
 	public WorkspaceEdit recordWorkspaceEdit(ILanguageServerAccess access, URI resourceURI, Document document, IChangeSerializer.IModification<Resource> mod) {
-		ResourceSet rs = access.newLiveScopeResourceSet(resourceURI);
+		observeBuilds(access);
+		long start = System.nanoTime();
+		WarmResourceSet warmResourceSet = takeWarmResourceSet(resourceURI, document);
+		boolean warmCopyReused = warmResourceSet != null;
+		ResourceSet rs = warmCopyReused ? warmResourceSet.resourceSet : access.newLiveScopeResourceSet(resourceURI);
 		Resource copy = rs.getResource(resourceURI, true);
+		long copied = System.nanoTime();
+		metrics.recordPhase(Phase.COPY, copied - start);
+
+		resolveCrossReferences(copy);
+		long resolved = System.nanoTime();
+		metrics.recordPhase(Phase.RESOLVE, resolved - copied);
+
 		IChangeSerializer serializer = serializerProvider.get();
-		EcoreUtil.resolveAll(copy);
-		serializer.addModification(copy, mod);
+		long[] modificationTime = new long[1];
+		serializer.addModification(copy, (Resource resource) -> {
+			long modificationStart = System.nanoTime();
+			try {
+				mod.modify(resource);
+			} finally {
+				modificationTime[0] += System.nanoTime() - modificationStart;
+			}
+		});
 		List<IEmfResourceChange> documentchanges = new ArrayList<>();
 		try {
 			serializer.applyModifications(CollectionBasedAcceptor.of(documentchanges));
@@ -78,7 +137,134 @@ public class WorkspaceEditRecorder {
 			});
 			workspaceEdit.getChanges().put(documentchange.getNewURI().toString(), edits);
 		}
+		metrics.recordPhase(Phase.MODIFY, modificationTime[0]);
+		metrics.recordPhase(Phase.SERIALIZE, System.nanoTime() - resolved - modificationTime[0]);
+		metrics.recordRecording(warmCopyReused);
+
+		// the modified resources must be loaded again by the next recording
+		unload(rs, copy);
+		for (IEmfResourceChange change : documentchanges) {
+			unload(rs, change.getResource());
+		}
+		putWarmResourceSet(resourceURI, document, rs);
 		return workspaceEdit;
 	}
 
+	/**
+	 * Resolves the cross references of the given resource without loading other
+	 * resources. Lazy links (which are encoded by their node in the parse tree and
+	 * would decode against the wrong node once the modification changes the
+	 * model) are replaced by the object the linking service finds for them; for
+	 * targets in resources that are not loaded, this is the proxy of the global
+	 * scope, which is addressed by the target's URI.
+	 */
+	private void resolveCrossReferences(Resource resource) {
+		TreeIterator<EObject> iterator = resource.getAllContents();
+		while (iterator.hasNext()) {
+			EObject object = iterator.next();
+			for (EReference reference : object.eClass().getEAllReferences()) {
+				if (reference.isContainment() || reference.isContainer() || reference.isDerived() || !reference.isResolveProxies())
+					continue;
+				if (reference.isMany()) {
+					@SuppressWarnings("unchecked")
+					InternalEList<EObject> values = (InternalEList<EObject>) object.eGet(reference, false);
+					for (int i = 0; i < values.size(); i++) {
+						EObject value = values.basicGet(i);
+						if (value.eIsProxy()) {
+							EObject target = resolveWithoutLoading(resource, value);
+							if (target != value)
+								values.setUnique(i, target);
+						}
+					}
+				} else {
+					EObject value = (EObject) object.eGet(reference, false);
+					if (value != null && value.eIsProxy()) {
+						EObject target = resolveWithoutLoading(resource, value);
+						if (target != value)
+							object.eSet(reference, target);
+					}
+				}
+			}
+		}
+	}
+
+	private EObject resolveWithoutLoading(Resource resource, EObject proxy) {
+		URI proxyURI = ((InternalEObject) proxy).eProxyURI();
+		if (!resource.getURI().equals(proxyURI.trimFragment()) || !uriEncoder.isCrossLinkFragment(resource, proxyURI.fragment()))
+			return resolveIfLoaded(resource, proxy);
+
+		try {
+			Triple<EObject, EReference, INode> link = uriEncoder.decode(resource, proxyURI.fragment());
+			List<EObject> linkedObjects = linkingService.getLinkedObjects(link.getFirst(), link.getSecond(), link.getThird());
+			if (linkedObjects.size() != 1)
+				return proxy;
+			return resolveIfLoaded(resource, linkedObjects.get(0));
+		} catch (Exception e) {
+			// unresolvable references are reported by the validation
+			return proxy;
+		}
+	}
+
+	private EObject resolveIfLoaded(Resource resource, EObject object) {
+		if (!object.eIsProxy())
+			return object;
+		URI uri = ((InternalEObject) object).eProxyURI();
+		if (!resource.getURI().equals(uri.trimFragment()) && !isLoaded(resource.getResourceSet(), uri))
+			return object;
+		return EcoreUtil.resolve(object, resource);
+	}
+
+	private boolean isLoaded(ResourceSet rs, URI uri) {
+		Resource resource = rs.getResource(uri.trimFragment(), false);
+		return resource != null && resource.isLoaded();
+	}
+
+	private void unload(ResourceSet rs, Resource resource) {
+		if (resource == null)
+			return;
+		resource.unload();
+		rs.getResources().remove(resource);
+	}
+
+	private WarmResourceSet takeWarmResourceSet(URI resourceURI, Document document) {
+		synchronized (warmResourceSets) {
+			WarmResourceSet warmResourceSet = warmResourceSets.remove(resourceURI);
+			if (warmResourceSet == null || document.getVersion() == null || !document.getVersion().equals(warmResourceSet.documentVersion))
+				return null;
+			return warmResourceSet;
+		}
+	}
+
+	private void putWarmResourceSet(URI resourceURI, Document document, ResourceSet rs) {
+		if (document.getVersion() == null)
+			return;
+		synchronized (warmResourceSets) {
+			warmResourceSets.put(resourceURI, new WarmResourceSet(rs, document.getVersion()));
+		}
+	}
+
+	private void observeBuilds(ILanguageServerAccess access) {
+		synchronized (observedAccesses) {
+			if (observedAccesses.add(access)) {
+				access.addBuildListener(deltas -> {
+					synchronized (warmResourceSets) {
+						warmResourceSets.clear();
+					}
+				});
+			}
+		}
+	}
+
+	private static class WarmResourceSet {
+
+		private final ResourceSet resourceSet;
+		private final Integer documentVersion;
+
+		WarmResourceSet(ResourceSet resourceSet, Integer documentVersion) {
+			this.resourceSet = resourceSet;
+			this.documentVersion = documentVersion;
+		}
+
+	}
+
 }
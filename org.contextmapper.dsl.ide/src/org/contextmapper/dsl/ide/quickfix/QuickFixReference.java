@@ -0,0 +1,137 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.ide.quickfix;
+
+import java.util.List;
+import java.util.Objects;
+
+import org.contextmapper.dsl.exception.ContextMapperApplicationException;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+
+import com.google.common.collect.Lists;
+import com.google.gson.JsonPrimitive;
+
+/**
+ * Identifies a quick fix offered for a diagnostic without its edit: the
+ * validation code, the index of the quick fix registered for that code, an
+ * optional argument (such as the name of a missing Bounded Context), the range
+ * of the diagnostic and the version of the document the quick fix has been
+ * offered for.
+ * 
+ * The reference is passed as command arguments to the client and back, so that
+ * the edit of a quick fix has only to be computed once the user selects it.
+ * 
+ * @author The Context Mapper Project Team
+ *
+ */
+public class QuickFixReference {
+
+	private static final int ARGUMENT_COUNT = 7;
+
+	private final String validationCode;
+	private final int quickFixIndex;
+	private final String argument;
+	private final Range range;
+	private final int documentVersion;
+
+	public QuickFixReference(String validationCode, int quickFixIndex, String argument, Range range, int documentVersion) {
+		this.validationCode = validationCode;
+		this.quickFixIndex = quickFixIndex;
+		this.argument = argument == null ? "" : argument;
+		this.range = range;
+		this.documentVersion = documentVersion;
+	}
+
+	public String getValidationCode() {
+		return validationCode;
+	}
+
+	public int getQuickFixIndex() {
+		return quickFixIndex;
+	}
+
+	public String getArgument() {
+		return argument;
+	}
+
+	public Range getRange() {
+		return range;
+	}
+
+	public int getDocumentVersion() {
+		return documentVersion;
+	}
+
+	/**
+	 * Creates the command arguments for this reference; the first argument is the
+	 * URI of the resource (as expected by the CML command service).
+	 */
+	public List<Object> toCommandArguments(String resourceURI) {
+		return Lists.newLinkedList(Lists.newArrayList(resourceURI, validationCode, String.valueOf(quickFixIndex), argument, toString(range.getStart()),
+				toString(range.getEnd()), String.valueOf(documentVersion)));
+	}
+
+	/**
+	 * Parses the command arguments created with
+	 * {@link #toCommandArguments(String)}.
+	 */
+	public static QuickFixReference fromCommandArguments(List<Object> arguments) {
+		if (arguments == null || arguments.size() != ARGUMENT_COUNT)
+			throw new ContextMapperApplicationException("The quick fix could not be applied: unexpected command arguments.");
+
+		try {
+			return new QuickFixReference(getString(arguments.get(1)), Integer.parseInt(getString(arguments.get(2))), getString(arguments.get(3)),
+					new Range(toPosition(getString(arguments.get(4))), toPosition(getString(arguments.get(5)))), Integer.parseInt(getString(arguments.get(6))));
+		} catch (NumberFormatException e) {
+			throw new ContextMapperApplicationException("The quick fix could not be applied: unexpected command arguments.", e);
+		}
+	}
+
+	private static String getString(Object argument) {
+		if (argument instanceof JsonPrimitive)
+			return ((JsonPrimitive) argument).getAsString();
+		return String.valueOf(argument);
+	}
+
+	private static String toString(Position position) {
+		return position.getLine() + ":" + position.getCharacter();
+	}
+
+	private static Position toPosition(String position) {
+		String[] parts = position.split(":");
+		if (parts.length != 2)
+			throw new NumberFormatException("Invalid position: " + position);
+		return new Position(Integer.parseInt(parts[0]), Integer.parseInt(parts[1]));
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (!(obj instanceof QuickFixReference))
+			return false;
+		QuickFixReference other = (QuickFixReference) obj;
+		return quickFixIndex == other.quickFixIndex && documentVersion == other.documentVersion && validationCode.equals(other.validationCode)
+				&& argument.equals(other.argument) && range.equals(other.range);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(validationCode, quickFixIndex, argument, range, documentVersion);
+	}
+
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.cml;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.contextmapper.dsl.AbstractCMLInputFileTest;
+import org.contextmapper.dsl.contextMappingDSL.ContextMappingDSLFactory;
+import org.contextmapper.dsl.contextMappingDSL.Import;
+import org.junit.jupiter.api.Test;
+
+public class CMLImportGraphTest extends AbstractCMLInputFileTest {
+
+	@Test
+	public void canResolveTransitiveImportsInTopologicalOrder() throws IOException {
+		// given
+		CMLResource input = getOriginalResourceOfTestCML("transitive-import-root.cml");
+
+		// when
+		CMLImportGraph graph = CMLImportGraph.of(input);
+
+		// then
+		assertEquals(1, graph.getDirectImports().size());
+		assertEquals(2, graph.getTransitiveImports().size());
+		List<String> order = graph.getTopologicalOrder().stream().map(r -> r.getURI().lastSegment()).collect(Collectors.toList());
+		assertEquals("transitive-import-leaf.cml", order.get(0));
+		assertEquals("transitive-import-middle.cml", order.get(1));
+		assertEquals("transitive-import-root.cml", order.get(2));
+		assertFalse(graph.hasCycles());
+	}
+
+	@Test
+	public void canDetectImportCycles() throws IOException {
+		// given
+		CMLResource input = getOriginalResourceOfTestCML("cyclic-import-a.cml");
+
+		// when
+		CMLImportGraph graph = CMLImportGraph.of(input);
+
+		// then
+		assertTrue(graph.hasCycles());
+		assertEquals(1, graph.getCycles().size());
+		assertEquals(2, graph.getCycles().get(0).size());
+		assertEquals(1, graph.getTransitiveImports().size());
+	}
+
+	@Test
+	public void cachesGraphAsLongAsImportsDoNotChange() throws IOException {
+		// given
+		CMLResource input = getOriginalResourceOfTestCML("transitive-import-root.cml");
+		CMLImportGraph graph = CMLImportGraph.of(input);
+
+		// when
+		CMLImportGraph secondGraph = CMLImportGraph.of(input);
+		Import newImport = ContextMappingDSLFactory.eINSTANCE.createImport();
+		newImport.setImportURI("./transitive-import-leaf.cml");
+		input.getContextMappingModel().getImports().add(newImport);
+		CMLImportGraph graphAfterChange = CMLImportGraph.of(input);
+
+		// then
+		assertSame(graph, secondGraph);
+		assertNotSame(graph, graphAfterChange);
+		assertEquals(2, graphAfterChange.getDirectImports().size());
+	}
+
+	@Override
+	protected String getTestFileDirectory() {
+		return "/integ-test-files/imports/";
+	}
+
+}
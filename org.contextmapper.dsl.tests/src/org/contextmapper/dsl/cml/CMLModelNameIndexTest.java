@@ -0,0 +1,86 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.cml;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+
+import org.contextmapper.dsl.AbstractCMLInputFileTest;
+import org.contextmapper.dsl.contextMappingDSL.BoundedContext;
+import org.contextmapper.dsl.contextMappingDSL.ContextMappingDSLFactory;
+import org.contextmapper.dsl.contextMappingDSL.ContextMappingModel;
+import org.eclipse.xtext.util.IResourceScopeCache;
+import org.junit.jupiter.api.Test;
+
+public class CMLModelNameIndexTest extends AbstractCMLInputFileTest {
+
+	@Test
+	public void canFindObjectsInImportedModels() throws IOException {
+		// given
+		CMLResource input = getOriginalResourceOfTestCML("simple-import-test.cml");
+
+		// when
+		CMLModelNameIndex index = new CMLModelNameIndex(input.getContextMappingModel(), getCache());
+
+		// then
+		assertEquals(1, index.getObjectsByName(BoundedContext.class, "context1").size());
+		assertEquals(1, index.getObjectsByName(BoundedContext.class, "anotherContext").size());
+		assertTrue(index.getObjectsByNameInRootModel(BoundedContext.class, "anotherContext").isEmpty());
+	}
+
+	@Test
+	public void canDetectDuplicatesAcrossFiles() throws IOException {
+		// given
+		CMLResource input = getOriginalResourceOfTestCML("uniqueness-validation-test.cml");
+
+		// when
+		CMLModelNameIndex index = new CMLModelNameIndex(input.getContextMappingModel(), getCache());
+
+		// then
+		assertTrue(index.isDuplicate(BoundedContext.class, "anotherContext"));
+		assertFalse(index.isDuplicateInRootModel(BoundedContext.class, "anotherContext"));
+		assertFalse(index.isDuplicate(BoundedContext.class, "yetAnotherContext"));
+	}
+
+	@Test
+	public void indexIsUpdatedIfResourceChanges() throws IOException {
+		// given
+		CMLResource input = getOriginalResourceOfTestCML("simple-import-test.cml");
+		ContextMappingModel model = input.getContextMappingModel();
+		assertFalse(new CMLModelNameIndex(model, getCache()).isDuplicate(BoundedContext.class, "context1"));
+
+		// when
+		BoundedContext duplicate = ContextMappingDSLFactory.eINSTANCE.createBoundedContext();
+		duplicate.setName("context1");
+		model.getBoundedContexts().add(duplicate);
+
+		// then
+		assertTrue(new CMLModelNameIndex(model, getCache()).isDuplicate(BoundedContext.class, "context1"));
+	}
+
+	private IResourceScopeCache getCache() {
+		return injector.getInstance(IResourceScopeCache.class);
+	}
+
+	@Override
+	protected String getTestFileDirectory() {
+		return "/integ-test-files/imports/";
+	}
+
+}
@@ -15,8 +15,10 @@
  */
 package org.contextmapper.dsl.cml;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.contextmapper.dsl.cml.exception.ResourceIsNoCMLModelException;
@@ -59,6 +61,42 @@ public class CMLResourceTest {
 		assertTrue(contextMappingModel instanceof ContextMappingModel);
 	}
 
+	@Test
+	public void cachesContextMappingModel() {
+		// given
+		Resource resource = new ResourceImpl(URI.createURI("testresource"));
+		resource.getContents().add(ContextMappingDSLFactory.eINSTANCE.createContextMappingModel());
+		CMLResource cmlRes = new CMLResource(resource);
+		ContextMappingModel model = cmlRes.getContextMappingModel();
+		long resolutionCount = CMLResource.getRootModelResolutionCount();
+
+		// when
+		ContextMappingModel secondModel = cmlRes.getContextMappingModel();
+		ContextMappingModel modelOfOtherWrapper = new CMLResource(resource).getContextMappingModel();
+
+		// then
+		assertSame(model, secondModel);
+		assertSame(model, modelOfOtherWrapper);
+		assertEquals(resolutionCount, CMLResource.getRootModelResolutionCount());
+	}
+
+	@Test
+	public void invalidatesCachedContextMappingModelIfRootContentChanges() {
+		// given
+		Resource resource = new ResourceImpl(URI.createURI("testresource"));
+		resource.getContents().add(ContextMappingDSLFactory.eINSTANCE.createContextMappingModel());
+		CMLResource cmlRes = new CMLResource(resource);
+		ContextMappingModel oldModel = cmlRes.getContextMappingModel();
+
+		// when
+		ContextMappingModel newModel = ContextMappingDSLFactory.eINSTANCE.createContextMappingModel();
+		resource.getContents().set(0, newModel);
+
+		// then
+		assertSame(newModel, cmlRes.getContextMappingModel());
+		assertFalse(oldModel == cmlRes.getContextMappingModel());
+	}
+
 	@Test
 	public void canHandleEmptyResource() {
 		// given
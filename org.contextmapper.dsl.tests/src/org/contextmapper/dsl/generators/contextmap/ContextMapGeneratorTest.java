@@ -20,6 +20,13 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.contextmapper.dsl.contextMappingDSL.BoundedContext;
 import org.contextmapper.dsl.contextMappingDSL.ContextMap;
 import org.contextmapper.dsl.contextMappingDSL.ContextMappingDSLFactory;
 import org.contextmapper.dsl.contextMappingDSL.ContextMappingModel;
@@ -31,6 +38,7 @@ import org.contextmapper.dsl.generators.mocks.IFileSystemAccess2Mock;
 import org.contextmapper.dsl.generators.mocks.IGeneratorContextMock;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
+import org.eclipse.xtext.util.RuntimeIOException;
 import org.junit.jupiter.api.Test;
 
 class ContextMapGeneratorTest {
@@ -245,6 +253,142 @@ class ContextMapGeneratorTest {
 		assertTrue(generator.isGraphvizInstalled());
 	}
 
+	@Test
+	void canSkipUnchangedContextMapIfIncremental() {
+		// given
+		ContextMappingModel model = createModelWithContextMap("ContextA", "ContextB");
+		CountingFileSystemAccess filesystem = new CountingFileSystemAccess();
+		this.generator.setIncremental(true);
+		this.generator.doGenerate(new ContextMappingModelResourceMock(model, "testmodel", "cml"), filesystem, new IGeneratorContextMock());
+		filesystem.renderedFiles.clear();
+
+		// when
+		ContextMapGenerator secondGenerator = new ContextMapGenerator();
+		secondGenerator.setIncremental(true);
+		secondGenerator.doGenerate(new ContextMappingModelResourceMock(model, "testmodel", "cml"), filesystem, new IGeneratorContextMock());
+
+		// then
+		assertTrue(filesystem.isFile("testmodel_ContextMap.manifest"));
+		assertTrue(filesystem.renderedFiles.isEmpty());
+	}
+
+	@Test
+	void canRenderChangedContextMapIfIncremental() {
+		// given
+		ContextMappingModel model = createModelWithContextMap("ContextA", "ContextB");
+		CountingFileSystemAccess filesystem = new CountingFileSystemAccess();
+		this.generator.setIncremental(true);
+		this.generator.doGenerate(new ContextMappingModelResourceMock(model, "testmodel", "cml"), filesystem, new IGeneratorContextMock());
+		filesystem.renderedFiles.clear();
+
+		// when
+		BoundedContext newContext = ContextMappingDSLFactory.eINSTANCE.createBoundedContext();
+		newContext.setName("ContextC");
+		model.getBoundedContexts().add(newContext);
+		model.getMap().getBoundedContexts().add(newContext);
+		this.generator.doGenerate(new ContextMappingModelResourceMock(model, "testmodel", "cml"), filesystem, new IGeneratorContextMock());
+
+		// then
+		assertEquals(Arrays.asList("testmodel_ContextMap.gv", "testmodel_ContextMap.png", "testmodel_ContextMap.svg"), sorted(filesystem.renderedFiles));
+	}
+
+	@Test
+	void canRenderContextMapWithChangedSettingsIfIncremental() {
+		// given
+		ContextMappingModel model = createModelWithContextMap("ContextA", "ContextB");
+		CountingFileSystemAccess filesystem = new CountingFileSystemAccess();
+		this.generator.setIncremental(true);
+		this.generator.setContextMapFormats(ContextMapFormat.SVG);
+		this.generator.doGenerate(new ContextMappingModelResourceMock(model, "testmodel", "cml"), filesystem, new IGeneratorContextMock());
+		filesystem.renderedFiles.clear();
+
+		// when
+		this.generator.setLabelSpacingFactor(7);
+		this.generator.doGenerate(new ContextMappingModelResourceMock(model, "testmodel", "cml"), filesystem, new IGeneratorContextMock());
+
+		// then
+		assertEquals(Arrays.asList("testmodel_ContextMap.svg"), filesystem.renderedFiles);
+	}
+
+	@Test
+	void canRenderOnlyNewFormatsIfIncremental() {
+		// given
+		ContextMappingModel model = createModelWithContextMap("ContextA", "ContextB");
+		CountingFileSystemAccess filesystem = new CountingFileSystemAccess();
+		this.generator.setIncremental(true);
+		this.generator.setContextMapFormats(ContextMapFormat.SVG);
+		this.generator.doGenerate(new ContextMappingModelResourceMock(model, "testmodel", "cml"), filesystem, new IGeneratorContextMock());
+		filesystem.renderedFiles.clear();
+
+		// when
+		this.generator.setContextMapFormats(ContextMapFormat.SVG, ContextMapFormat.DOT);
+		this.generator.doGenerate(new ContextMappingModelResourceMock(model, "testmodel", "cml"), filesystem, new IGeneratorContextMock());
+
+		// then
+		assertEquals(Arrays.asList("testmodel_ContextMap.gv"), filesystem.renderedFiles);
+	}
+
+	@Test
+	void canRenderAllFormatsIfNotIncremental() {
+		// given
+		ContextMappingModel model = createModelWithContextMap("ContextA", "ContextB");
+		CountingFileSystemAccess filesystem = new CountingFileSystemAccess();
+		this.generator.doGenerate(new ContextMappingModelResourceMock(model, "testmodel", "cml"), filesystem, new IGeneratorContextMock());
+		filesystem.renderedFiles.clear();
+
+		// when
+		this.generator.doGenerate(new ContextMappingModelResourceMock(model, "testmodel", "cml"), filesystem, new IGeneratorContextMock());
+
+		// then
+		assertEquals(3, filesystem.renderedFiles.size());
+	}
+
+	@Test
+	void canRenderContextMapIfNonIncrementalRunChangedFiles() {
+		// given
+		ContextMappingModel modelA = createModelWithContextMap("ContextA", "ContextB");
+		ContextMappingModel modelB = createModelWithContextMap("ContextA", "ContextB", "ContextC");
+		CountingFileSystemAccess filesystem = new CountingFileSystemAccess();
+		this.generator.setIncremental(true);
+		this.generator.doGenerate(new ContextMappingModelResourceMock(modelA, "testmodel", "cml"), filesystem, new IGeneratorContextMock());
+		ContextMapGenerator nonIncrementalGenerator = new ContextMapGenerator();
+		nonIncrementalGenerator.doGenerate(new ContextMappingModelResourceMock(modelB, "testmodel", "cml"), filesystem, new IGeneratorContextMock());
+		filesystem.renderedFiles.clear();
+
+		// when
+		this.generator.doGenerate(new ContextMappingModelResourceMock(modelA, "testmodel", "cml"), filesystem, new IGeneratorContextMock());
+
+		// then
+		assertEquals(Arrays.asList("testmodel_ContextMap.gv", "testmodel_ContextMap.png", "testmodel_ContextMap.svg"), sorted(filesystem.renderedFiles));
+	}
+
+	private ContextMappingModel createModelWithContextMap(String... contextNames) {
+		ContextMappingModel model = ContextMappingDSLFactory.eINSTANCE.createContextMappingModel();
+		ContextMap contextMap = ContextMappingDSLFactory.eINSTANCE.createContextMap();
+		model.setMap(contextMap);
+		for (String contextName : contextNames) {
+			BoundedContext bc = ContextMappingDSLFactory.eINSTANCE.createBoundedContext();
+			bc.setName(contextName);
+			model.getBoundedContexts().add(bc);
+			contextMap.getBoundedContexts().add(bc);
+		}
+		return model;
+	}
+
+	private List<String> sorted(List<String> fileNames) {
+		return fileNames.stream().sorted().collect(Collectors.toList());
+	}
+
+	private class CountingFileSystemAccess extends IFileSystemAccess2Mock {
+		private List<String> renderedFiles = new ArrayList<>();
+
+		@Override
+		public void generateFile(String fileName, InputStream content) throws RuntimeIOException {
+			super.generateFile(fileName, content);
+			renderedFiles.add(fileName);
+		}
+	}
+
 	private class TestContextMapGenerator extends ContextMapGenerator {
 		private TestGraphvizContextMapGenerator generator;
 
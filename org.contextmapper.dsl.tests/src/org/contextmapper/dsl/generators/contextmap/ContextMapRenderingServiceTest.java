@@ -0,0 +1,254 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.generators.contextmap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.IOUtils;
+import org.contextmapper.contextmap.generator.ContextMapGenerator;
+import org.contextmapper.contextmap.generator.model.ContextMap;
+import org.contextmapper.dsl.exception.ContextMapperApplicationException;
+import org.contextmapper.dsl.generator.contextmap.ContextMapRenderingService;
+import org.contextmapper.dsl.generators.mocks.IFileSystemAccess2Mock;
+import org.eclipse.xtext.util.RuntimeIOException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import guru.nidi.graphviz.engine.Format;
+
+class ContextMapRenderingServiceTest {
+
+	private static final String GRAPH = "digraph ContextMap {}";
+
+	private ContextMapRenderingService service;
+
+	@BeforeEach
+	public void prepare() {
+		this.service = new ContextMapRenderingService(2, 4, 500, TimeUnit.MILLISECONDS);
+	}
+
+	@AfterEach
+	public void cleanup() {
+		this.service.shutdown();
+	}
+
+	@Test
+	void canWriteRenderedContextMapIntoFile() {
+		// given
+		ReadingFileSystemAccess filesystem = new ReadingFileSystemAccess();
+
+		// when
+		service.submit(new FixedContentGenerator(), new ContextMap(), Format.DOT).writeTo(filesystem, "test_ContextMap.gv");
+
+		// then
+		assertEquals(GRAPH, filesystem.readTextFile("test_ContextMap.gv"));
+		assertEquals(1, service.getCompletedJobs());
+		assertEquals(0, service.getCallerRenderedJobs());
+		assertEquals(0, service.getQueueDepth());
+	}
+
+	@Test
+	void canWriteRenderedContextMapAsBinaryFile() {
+		// given
+		IFileSystemAccess2Mock filesystem = new IFileSystemAccess2Mock();
+
+		// when
+		service.submit(new FixedContentGenerator(), new ContextMap(), Format.DOT).writeTo(filesystem, "test_ContextMap.gv");
+
+		// then
+		assertTrue(filesystem.getGeneratedFilesSet().contains("test_ContextMap.gv"));
+		assertEquals(1, service.getCompletedJobs());
+	}
+
+	@Test
+	void canCancelJobAfterTimeout() {
+		// given
+		ReadingFileSystemAccess filesystem = new ReadingFileSystemAccess();
+		ContextMapGenerator slowGenerator = new ContextMapGenerator() {
+			@Override
+			public void generateContextMapGraphic(ContextMap contextMap, Format format, OutputStream outputStream) {
+				try {
+					Thread.sleep(10000);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+		};
+
+		// when, then
+		assertThrows(ContextMapperApplicationException.class, () -> {
+			service.submit(slowGenerator, new ContextMap(), Format.PNG).writeTo(filesystem, "test_ContextMap.png");
+		});
+		assertEquals(1, service.getTimedOutJobs());
+	}
+
+	@Test
+	void canTimeOutQueuedJobIfWorkersDoNotReactToInterrupts() {
+		// given
+		ReadingFileSystemAccess filesystem = new ReadingFileSystemAccess();
+		CountDownLatch release = new CountDownLatch(1);
+		ContextMapGenerator stuckGenerator = new ContextMapGenerator() {
+			@Override
+			public void generateContextMapGraphic(ContextMap contextMap, Format format, OutputStream outputStream) {
+				while (release.getCount() > 0) {
+					try {
+						release.await();
+					} catch (InterruptedException e) {
+						// like a Graphviz process that is not stopped by the interrupt
+					}
+				}
+			}
+		};
+		List<ContextMapRenderingService.RenderJob> jobs = new ArrayList<>();
+		for (int i = 0; i < 3; i++) {
+			jobs.add(service.submit(stuckGenerator, new ContextMap(), Format.PNG));
+		}
+
+		try {
+			// when, then
+			long start = System.nanoTime();
+			for (ContextMapRenderingService.RenderJob job : jobs) {
+				assertThrows(ContextMapperApplicationException.class, () -> job.writeTo(filesystem, "test_ContextMap.png"));
+			}
+			assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 5000);
+			assertEquals(3, service.getTimedOutJobs());
+			assertFalse(filesystem.getGeneratedFilesSet().contains("test_ContextMap.png"));
+		} finally {
+			release.countDown();
+		}
+	}
+
+	@Test
+	void canReportFailedJob() {
+		// given
+		IFileSystemAccess2Mock filesystem = new IFileSystemAccess2Mock();
+		ContextMapGenerator failingGenerator = new ContextMapGenerator() {
+			@Override
+			public void generateContextMapGraphic(ContextMap contextMap, Format format, OutputStream outputStream) {
+				throw new IllegalStateException("Graphviz failed");
+			}
+		};
+
+		// when, then
+		assertThrows(ContextMapperApplicationException.class, () -> {
+			service.submit(failingGenerator, new ContextMap(), Format.SVG).writeTo(filesystem, "test_ContextMap.svg");
+		});
+		assertEquals(1, service.getFailedJobs());
+	}
+
+	@Test
+	void doesNotOverwriteExistingFileIfJobFails() {
+		// given
+		ReadingFileSystemAccess filesystem = new ReadingFileSystemAccess();
+		filesystem.storeFile("test_ContextMap.svg", GRAPH);
+		ContextMapGenerator failingGenerator = new ContextMapGenerator() {
+			@Override
+			public void generateContextMapGraphic(ContextMap contextMap, Format format, OutputStream outputStream) {
+				try {
+					outputStream.write("digraph".getBytes(StandardCharsets.UTF_8));
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+				throw new IllegalStateException("Graphviz failed");
+			}
+		};
+
+		// when, then
+		assertThrows(ContextMapperApplicationException.class, () -> {
+			service.submit(failingGenerator, new ContextMap(), Format.SVG).writeTo(filesystem, "test_ContextMap.svg");
+		});
+		assertEquals(GRAPH, filesystem.readTextFile("test_ContextMap.svg"));
+	}
+
+	@Test
+	void doesNotCountTimeUntilOutputIsWrittenAsRenderTime() throws InterruptedException {
+		// given
+		ReadingFileSystemAccess filesystem = new ReadingFileSystemAccess();
+		ContextMapGenerator largeOutputGenerator = new ContextMapGenerator() {
+			@Override
+			public void generateContextMapGraphic(ContextMap contextMap, Format format, OutputStream outputStream) {
+				try {
+					outputStream.write(new byte[256 * 1024]);
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			}
+		};
+		ContextMapRenderingService.RenderJob job1 = service.submit(largeOutputGenerator, new ContextMap(), Format.PNG);
+		ContextMapRenderingService.RenderJob job2 = service.submit(largeOutputGenerator, new ContextMap(), Format.PNG);
+
+		// when
+		Thread.sleep(1000);
+		job1.writeTo(filesystem, "test_ContextMap.png");
+		job2.writeTo(filesystem, "test_ContextMap.svg");
+
+		// then
+		assertEquals(2, service.getCompletedJobs());
+		assertEquals(0, service.getTimedOutJobs());
+		assertTrue(service.getMaxRenderTime(TimeUnit.MILLISECONDS) < 500);
+	}
+
+	@Test
+	void canRenderOnCallingThreadIfServiceIsNotAvailable() {
+		// given
+		ReadingFileSystemAccess filesystem = new ReadingFileSystemAccess();
+		service.shutdown();
+
+		// when
+		service.submit(new FixedContentGenerator(), new ContextMap(), Format.DOT).writeTo(filesystem, "test_ContextMap.gv");
+
+		// then
+		assertEquals(GRAPH, filesystem.readTextFile("test_ContextMap.gv"));
+		assertEquals(1, service.getCallerRenderedJobs());
+	}
+
+	private static class FixedContentGenerator extends ContextMapGenerator {
+		@Override
+		public void generateContextMapGraphic(ContextMap contextMap, Format format, OutputStream outputStream) {
+			try {
+				outputStream.write(GRAPH.getBytes(StandardCharsets.UTF_8));
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+	}
+
+	private static class ReadingFileSystemAccess extends IFileSystemAccess2Mock {
+		@Override
+		public void generateFile(String fileName, InputStream content) throws RuntimeIOException {
+			try {
+				storeFile(fileName, IOUtils.toString(content, StandardCharsets.UTF_8));
+			} catch (IOException e) {
+				throw new RuntimeIOException(e);
+			}
+		}
+	}
+
+}
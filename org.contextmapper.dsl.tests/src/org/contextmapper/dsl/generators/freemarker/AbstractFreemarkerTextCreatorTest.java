@@ -21,6 +21,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import java.util.Map;
 
 import org.contextmapper.dsl.generator.AbstractFreemarkerTextCreator;
+import org.contextmapper.dsl.generator.FreemarkerTemplateRegistry;
 import org.junit.jupiter.api.Test;
 
 public class AbstractFreemarkerTextCreatorTest {
@@ -37,6 +38,22 @@ public class AbstractFreemarkerTextCreatorTest {
 		assertEquals("Hello Tester!", text);
 	}
 
+	@Test
+	public void parsesTemplateOnlyOnce() {
+		// given
+		FreemarkerTemplateRegistry.clear();
+
+		// when
+		String text1 = new SimpleTextCreator().createText("Tester 1");
+		String text2 = new SimpleTextCreator().createText("Tester 2");
+
+		// then
+		assertEquals("Hello Tester 1!", text1);
+		assertEquals("Hello Tester 2!", text2);
+		assertEquals(1, FreemarkerTemplateRegistry.getMissCount());
+		assertEquals(1, FreemarkerTemplateRegistry.getHitCount());
+	}
+
 	@Test
 	public void cannotGenerateTextIfClassIsWrong() {
 		assertThrows(RuntimeException.class, () -> {
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.generators.freemarker;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.commons.io.FileUtils;
+import org.contextmapper.dsl.AbstractCMLInputFileTest;
+import org.contextmapper.dsl.cml.CMLResource;
+import org.contextmapper.dsl.contextMappingDSL.ContextMappingModel;
+import org.contextmapper.dsl.generator.freemarker.FreemarkerTemplateSession;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.junit.jupiter.api.Test;
+
+public class FreemarkerTemplateSessionTest extends AbstractCMLInputFileTest {
+
+	@Test
+	public void canRenderMultipleModels() throws IOException {
+		// given
+		FreemarkerTemplateSession session = new FreemarkerTemplateSession(getCopyOfTestInputFile("simple-template.ftl"));
+		CMLResource resource = getResourceCopyOfTestCML("simple-context-map.cml");
+		ContextMappingModel model1 = resource.getContextMappingModel();
+		ContextMappingModel model2 = reloadResource(resource).getContextMappingModel();
+
+		// when
+		List<String> results = session.renderAll(Arrays.asList(model1, model2, model1), 2);
+
+		// then
+		assertEquals(3, results.size());
+		assertEquals("testMap", results.get(0));
+		assertEquals("testMap", results.get(1));
+		assertEquals("testMap", results.get(2));
+	}
+
+	@Test
+	public void resolvesSharedResourceSetBeforeRenderingInParallel() throws IOException {
+		// given
+		FreemarkerTemplateSession session = new FreemarkerTemplateSession(getCopyOfTestInputFile("simple-template.ftl"));
+		ContextMappingModel model = getResourceCopyOfTestCML("simple-context-map.cml").getContextMappingModel();
+
+		// when
+		session.renderAll(Arrays.asList(model, model), 2);
+
+		// then
+		assertTrue(EcoreUtil.ProxyCrossReferencer.find(resourceSet).isEmpty());
+	}
+
+	@Test
+	public void reloadsTemplateIfFileChanged() throws IOException {
+		// given
+		File templateFile = getCopyOfTestInputFile("custom-variables-test-1.ftl");
+		FreemarkerTemplateSession session = new FreemarkerTemplateSession(templateFile);
+		session.registerCustomModelProperty("projectName", "ContextMapper-Testproject");
+		ContextMappingModel model = getResourceCopyOfTestCML("simple-context-map.cml").getContextMappingModel();
+		assertEquals("ContextMapper-Testproject", session.render(model));
+
+		// when
+		FileUtils.writeStringToFile(templateFile, "Project: ${projectName}", StandardCharsets.UTF_8);
+		templateFile.setLastModified(templateFile.lastModified() + 1000);
+
+		// then
+		assertEquals("Project: ContextMapper-Testproject", session.render(model));
+	}
+
+	@Override
+	protected String getTestFileDirectory() {
+		return "/integ-test-files/freemarker/";
+	}
+
+}
@@ -15,6 +15,9 @@
  */
 package org.contextmapper.dsl.generators.mdsl;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.File;
@@ -28,6 +31,7 @@ import org.contextmapper.dsl.AbstractCMLInputFileTest;
 import org.contextmapper.dsl.cml.CMLResource;
 import org.contextmapper.dsl.contextMappingDSL.ContextMappingModel;
 import org.contextmapper.dsl.generator.MDSLContractsGenerator;
+import org.contextmapper.dsl.generator.exception.GeneratorInputException;
 import org.contextmapper.dsl.generator.mdsl.ProtectedRegionIdentifier;
 import org.contextmapper.dsl.generator.mdsl.ProtectedRegionReader;
 import org.contextmapper.dsl.generators.mocks.ContextMappingModelResourceMock;
@@ -90,6 +94,27 @@ class MDSLContractsGeneratorTest extends AbstractCMLInputFileTest {
 		assertTrue(ids.contains("MyPreservedDataType"));
 	}
 
+	@Test
+	void doesNotOverwriteFileWithUnterminatedProtectedRegion() throws IOException {
+		// given
+		String inputModelName = "overwrite-with-preserving-protected-region-test.cml";
+		CMLResource input = getResourceCopyOfTestCML(inputModelName);
+		ContextMappingModel model = input.getContextMappingModel();
+		File existingMDSLFile = new File(Paths.get("").toAbsolutePath().toString(), "/integ-test-files/mdsl/overwrite-with-preserving-protected-region-test.mdsl");
+		String existingMDSLContent = FileUtils.readFileToString(existingMDSLFile).replace("// ** END PROTECTED REGION for data types", "");
+		IFileSystemAccess2Mock filesystem = new IFileSystemAccess2Mock();
+		String mdslFileName = "testmodel_CustomerManagementContextAPI.mdsl";
+		filesystem.storeFile(mdslFileName, existingMDSLContent);
+
+		// when
+		assertThrows(GeneratorInputException.class, () -> new MDSLContractsGenerator()
+				.doGenerate(new ContextMappingModelResourceMock(model, "testmodel", "cml"), filesystem, new IGeneratorContextMock()));
+
+		// then
+		assertFalse(filesystem.getGeneratedFilesSet().contains(mdslFileName));
+		assertEquals(existingMDSLContent, filesystem.readTextFile(mdslFileName).toString());
+	}
+
 	@Override
 	protected String getTestFileDirectory() {
 		return "/integ-test-files/mdsl/";
@@ -19,7 +19,9 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import org.contextmapper.dsl.AbstractCMLInputFileTest;
 import org.contextmapper.dsl.cml.CMLResource;
@@ -189,6 +191,23 @@ public class MDSLModelCreatorTest extends AbstractCMLInputFileTest {
 		assertEquals("Address", serviceSpecifications.get(0).getDataTypes().get(0).getName());
 	}
 
+	@Test
+	void addsOnlyDataTypesUsedByTheAPI() throws IOException {
+		// given
+		CMLResource input = getResourceCopyOfTestCML("mdsl-data-types-per-api.cml");
+		MDSLModelCreator mdslCreator = new MDSLModelCreator(input.getContextMappingModel());
+
+		// when
+		List<ServiceSpecification> serviceSpecifications = mdslCreator.createServiceSpecifications();
+
+		// then
+		assertEquals(2, serviceSpecifications.size());
+		ServiceSpecification customerAPI = serviceSpecifications.stream().filter(s -> s.getName().equals("CustomerManagementContextAPI")).findFirst().get();
+		ServiceSpecification contractAPI = serviceSpecifications.stream().filter(s -> s.getName().equals("ContractManagementContextAPI")).findFirst().get();
+		assertEquals(Arrays.asList("Address", "Customer", "CustomerId"), customerAPI.getDataTypes().stream().map(DataType::getName).collect(Collectors.toList()));
+		assertEquals(Arrays.asList("Contract", "ContractId"), contractAPI.getDataTypes().stream().map(DataType::getName).collect(Collectors.toList()));
+	}
+
 	@Test
 	void createsOnlyOneAPIForUpstreamContextWhichOccursInMultipleRelationships() throws IOException {
 		// given
@@ -17,16 +17,21 @@ package org.contextmapper.dsl.generators.mdsl;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.StringReader;
 import java.nio.file.Paths;
+import java.util.Map;
 import java.util.Set;
 
 import org.apache.commons.io.FileUtils;
+import org.contextmapper.dsl.generator.exception.GeneratorInputException;
 import org.contextmapper.dsl.generator.mdsl.ProtectedRegionIdentifier;
 import org.contextmapper.dsl.generator.mdsl.ProtectedRegionReader;
+import org.contextmapper.dsl.generator.mdsl.ProtectedRegionReader.ProtectedRegion;
 import org.junit.jupiter.api.Test;
 
 public class ProtectedRegionReaderTest {
@@ -143,4 +148,51 @@ public class ProtectedRegionReaderTest {
 		assertTrue(identifiers.contains("ContractManagementContextClient"));
 	}
 
+	@Test
+	void canReadAllProtectedRegionsInOnePass() throws IOException {
+		// given
+		File expectedResultFile = new File(Paths.get("").toAbsolutePath().toString(),
+				"/integ-test-files/mdsl/protected-region-identifier-test.mdsl");
+		String mdslInputFile = FileUtils.readFileToString(expectedResultFile);
+
+		// when
+		Map<ProtectedRegionIdentifier, ProtectedRegion> regions = new ProtectedRegionReader()
+				.readProtectedRegions(new StringReader(mdslInputFile));
+
+		// then
+		assertEquals(4, regions.size());
+		assertEquals("data type Address P" + System.lineSeparator() + "data type Parameter1Type P",
+				regions.get(ProtectedRegionIdentifier.DATA_TYPE_REGION).getContent());
+		assertEquals(2, regions.get(ProtectedRegionIdentifier.DATA_TYPE_REGION).getIdentifiers().size());
+		assertTrue(regions.get(ProtectedRegionIdentifier.ENDPOINT_REGION).getIdentifiers().contains("Customers"));
+		assertTrue(regions.get(ProtectedRegionIdentifier.PROVIDER_REGION).getIdentifiers()
+				.contains("CustomerManagementContextProvider"));
+		assertTrue(regions.get(ProtectedRegionIdentifier.CLIENT_REGION).getIdentifiers()
+				.contains("ContractManagementContextClient"));
+	}
+
+	@Test
+	void throwsExceptionIfRegionIsNotTerminatedBeforeNextRegion() {
+		// given
+		String mdslInput = String.join(System.lineSeparator(), "// ** BEGIN PROTECTED REGION for data types", "data type Address P",
+				"// ** BEGIN PROTECTED REGION for endpoint types", "endpoint type Customers", "// ** END PROTECTED REGION for endpoint types");
+		ProtectedRegionReader reader = new ProtectedRegionReader();
+
+		// when, then
+		assertThrows(GeneratorInputException.class, () -> reader.readProtectedRegions(new StringReader(mdslInput)));
+		assertThrows(GeneratorInputException.class, () -> reader.containsProtectedRegion(mdslInput, ProtectedRegionIdentifier.ENDPOINT_REGION));
+		assertThrows(GeneratorInputException.class, () -> reader.getProtectedRegionContent(mdslInput, ProtectedRegionIdentifier.DATA_TYPE_REGION));
+	}
+
+	@Test
+	void throwsExceptionIfLastRegionIsNotTerminated() {
+		// given
+		String mdslInput = String.join(System.lineSeparator(), "// ** BEGIN PROTECTED REGION for data types", "data type Address P",
+				"// ** END PROTECTED REGION for data types", "// ** BEGIN PROTECTED REGION for API clients", "API client ContractManagementContextClient");
+		ProtectedRegionReader reader = new ProtectedRegionReader();
+
+		// when, then
+		assertThrows(GeneratorInputException.class, () -> reader.readProtectedRegions(new StringReader(mdslInput)));
+	}
+
 }
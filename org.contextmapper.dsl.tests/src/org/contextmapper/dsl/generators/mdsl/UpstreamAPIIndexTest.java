@@ -0,0 +1,66 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.generators.mdsl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.contextmapper.dsl.AbstractCMLInputFileTest;
+import org.contextmapper.dsl.cml.CMLResource;
+import org.contextmapper.dsl.contextMappingDSL.Aggregate;
+import org.contextmapper.dsl.generator.mdsl.MDSLNameEncoder;
+import org.contextmapper.dsl.generator.mdsl.generatorcontext.UpstreamAPIContext;
+import org.contextmapper.dsl.generator.mdsl.generatorcontext.UpstreamAPIIndex;
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.Lists;
+
+public class UpstreamAPIIndexTest extends AbstractCMLInputFileTest {
+
+	@Test
+	void canIndexUpstreamContextsAndPublicOperations() throws IOException {
+		// given
+		CMLResource input = getResourceCopyOfTestCML("mdsl-only-use-public-operations.cml");
+
+		// when
+		UpstreamAPIIndex index = new UpstreamAPIIndex(input.getContextMappingModel(), new MDSLNameEncoder());
+
+		// then
+		List<UpstreamAPIContext> contexts = Lists.newArrayList(index.getUpstreamContexts());
+		assertEquals(1, contexts.size());
+		UpstreamAPIContext context = contexts.get(0);
+		assertEquals("CustomerManagementContextAPI", context.getApiName());
+		assertEquals(1, context.getExposedAggregates().size());
+		assertEquals(1, context.getDownstreamContexts().size());
+
+		Aggregate customers = context.getExposedAggregates().get(0);
+		assertEquals("MyEntity", index.getAggregateRoot(customers).getName());
+		assertEquals(1, index.getPublicAggregateRootOperations(customers).size());
+		assertEquals("publicMethod", index.getPublicAggregateRootOperations(customers).get(0).getName());
+		assertEquals(1, index.getPublicServiceOperations(customers).size());
+		assertEquals("anotherPublicMethod", index.getPublicServiceOperations(customers).get(0).getName());
+		assertTrue(index.hasOperations(customers));
+	}
+
+	@Override
+	protected String getTestFileDirectory() {
+		return "/integ-test-files/mdsl/";
+	}
+
+}
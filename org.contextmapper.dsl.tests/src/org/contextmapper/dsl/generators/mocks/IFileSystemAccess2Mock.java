@@ -51,6 +51,9 @@ public class IFileSystemAccess2Mock implements IFileSystemAccess2 {
 
 	@Override
 	public void deleteFile(String fileName) {
+		this.countingMapTextGenerators.remove(fileName);
+		this.countingMapBinaryGenerators.remove(fileName);
+		this.fileMap.remove(fileName);
 	}
 
 	@Override
@@ -875,6 +875,45 @@ class PlantUMLBoundedContextClassDiagramCreatorTest extends AbstractCMLInputFile
 		assertTrue(plantUML.contains("	end legend" + System.lineSeparator()));
 	}
 
+	@Test
+	public void canCreateAssociationsInLargeBoundedContext() {
+		// given
+		BoundedContext boundedContext = ContextMappingDSLFactory.eINSTANCE.createBoundedContext();
+		boundedContext.setName("LargeContext");
+		Aggregate aggregate1 = ContextMappingDSLFactory.eINSTANCE.createAggregate();
+		aggregate1.setName("Aggregate1");
+		Aggregate aggregate2 = ContextMappingDSLFactory.eINSTANCE.createAggregate();
+		aggregate2.setName("Aggregate2");
+		boundedContext.getAggregates().add(aggregate1);
+		boundedContext.getAggregates().add(aggregate2);
+		Entity previousEntity = null;
+		for (int i = 0; i < 2000; i++) {
+			Entity entity = TacticdslFactory.eINSTANCE.createEntity();
+			entity.setName("Entity" + i);
+			if (i < 1000)
+				aggregate1.getDomainObjects().add(entity);
+			else
+				aggregate2.getDomainObjects().add(entity);
+			if (previousEntity != null) {
+				Reference reference = TacticdslFactory.eINSTANCE.createReference();
+				reference.setName("next");
+				reference.setCollectionType(CollectionType.LIST);
+				reference.setDomainObjectType(entity);
+				previousEntity.getReferences().add(reference);
+			}
+			previousEntity = entity;
+		}
+
+		// when
+		String plantUML = this.creator.createDiagram(boundedContext);
+
+		// then
+		assertTrue(plantUML.contains("Entity0 \"1\" *--> \"*\" Entity1 : next" + System.lineSeparator()));
+		assertTrue(plantUML.contains("Entity999 \"1\" o--> \"*\" Entity1000 : next" + System.lineSeparator()));
+		assertTrue(plantUML.contains("Entity1998 \"1\" *--> \"*\" Entity1999 : next" + System.lineSeparator()));
+		assertEquals(1999, plantUML.split(" : next" + System.lineSeparator(), -1).length - 1);
+	}
+
 	@Override
 	protected String getTestFileDirectory() {
 		return "/integ-test-files/plantuml/";
@@ -15,12 +15,25 @@
  */
 package org.contextmapper.dsl.generators.plantuml;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.File;
 import java.io.IOException;
-
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.apache.commons.io.FileUtils;
 import org.contextmapper.dsl.AbstractCMLInputFileTest;
 import org.contextmapper.dsl.contextMappingDSL.BoundedContext;
 import org.contextmapper.dsl.contextMappingDSL.ContextMap;
@@ -29,14 +42,18 @@ import org.contextmapper.dsl.contextMappingDSL.ContextMappingModel;
 import org.contextmapper.dsl.contextMappingDSL.Domain;
 import org.contextmapper.dsl.contextMappingDSL.Subdomain;
 import org.contextmapper.dsl.generator.PlantUMLGenerator;
+import org.contextmapper.dsl.generator.StreamingFileSystemAccess;
 import org.contextmapper.dsl.generator.exception.GeneratorInputException;
+import org.contextmapper.dsl.generator.plantuml.PlantUMLComponentDiagramCreator;
 import org.contextmapper.dsl.generators.mocks.ContextMappingModelResourceMock;
 import org.contextmapper.dsl.generators.mocks.IFileSystemAccess2Mock;
 import org.contextmapper.dsl.generators.mocks.IGeneratorContextMock;
+import org.contextmapper.dsl.standalone.FileSystemHelper;
 import org.contextmapper.tactic.dsl.tacticdsl.Entity;
 import org.contextmapper.tactic.dsl.tacticdsl.TacticdslFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 class PlantUMLGeneratorTest extends AbstractCMLInputFileTest {
 
@@ -76,6 +93,114 @@ class PlantUMLGeneratorTest extends AbstractCMLInputFileTest {
 		assertFalse(filesystem.getGeneratedFilesSet().contains("testmodel_SD_TestSubdomain.puml"));
 	}
 
+	@Test
+	void canStreamDiagramsIntoFiles(@TempDir File outputDir) throws IOException {
+		// given
+		ContextMappingModel model = ContextMappingDSLFactory.eINSTANCE.createContextMappingModel();
+		ContextMap contextMap = ContextMappingDSLFactory.eINSTANCE.createContextMap();
+		BoundedContext boundedContext = ContextMappingDSLFactory.eINSTANCE.createBoundedContext();
+		boundedContext.setName("TestContext");
+		model.getBoundedContexts().add(boundedContext);
+		contextMap.getBoundedContexts().add(boundedContext);
+		model.setMap(contextMap);
+
+		// when
+		this.generator.doGenerate(new ContextMappingModelResourceMock(model, "testmodel", "cml"),
+				FileSystemHelper.getFileSystemAccess(outputDir.getAbsolutePath()), new IGeneratorContextMock());
+
+		// then
+		File contextMapFile = new File(outputDir, "testmodel_ContextMap.puml");
+		assertTrue(contextMapFile.exists());
+		assertEquals(new PlantUMLComponentDiagramCreator().createDiagram(contextMap),
+				FileUtils.readFileToString(contextMapFile, StandardCharsets.UTF_8));
+	}
+
+	@Test
+	void parallelModeCreatesSameDiagramsAsSequentialMode() throws IOException {
+		// given
+		ContextMappingModel model = getOriginalResourceOfTestCML("class-diagram-generation-aggregate-test-1.cml")
+				.getContextMappingModel();
+		IFileSystemAccess2Mock sequentialFilesystem = new IFileSystemAccess2Mock();
+		this.generator.doGenerate(new ContextMappingModelResourceMock(model, "testmodel", "cml"), sequentialFilesystem,
+				new IGeneratorContextMock());
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+
+		// when
+		IFileSystemAccess2Mock parallelFilesystem = new IFileSystemAccess2Mock();
+		try {
+			PlantUMLGenerator parallelGenerator = new PlantUMLGenerator();
+			parallelGenerator.setExecutor(executor);
+			parallelGenerator.doGenerate(new ContextMappingModelResourceMock(model, "testmodel", "cml"),
+					parallelFilesystem, new IGeneratorContextMock());
+		} finally {
+			executor.shutdown();
+		}
+
+		// then
+		assertEquals(sequentialFilesystem.getGeneratedFilesSet(), parallelFilesystem.getGeneratedFilesSet());
+		for (String file : sequentialFilesystem.getGeneratedFilesSet()) {
+			assertEquals(sequentialFilesystem.readTextFile(file), parallelFilesystem.readTextFile(file));
+		}
+	}
+
+	@Test
+	void parallelModeWritesDiagramsIntoFiles(@TempDir File outputDir) throws IOException {
+		// given
+		ContextMappingModel model = getOriginalResourceOfTestCML("class-diagram-generation-aggregate-test-1.cml")
+				.getContextMappingModel();
+		IFileSystemAccess2Mock sequentialFilesystem = new IFileSystemAccess2Mock();
+		this.generator.doGenerate(new ContextMappingModelResourceMock(model, "testmodel", "cml"), sequentialFilesystem,
+				new IGeneratorContextMock());
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+
+		// when
+		try {
+			PlantUMLGenerator parallelGenerator = new PlantUMLGenerator();
+			parallelGenerator.setExecutor(executor);
+			parallelGenerator.setMaxDiagramsInFlight(2);
+			parallelGenerator.doGenerate(new ContextMappingModelResourceMock(model, "testmodel", "cml"),
+					FileSystemHelper.getFileSystemAccess(outputDir.getAbsolutePath()), new IGeneratorContextMock());
+		} finally {
+			executor.shutdown();
+		}
+
+		// then
+		for (String file : sequentialFilesystem.getGeneratedFilesSet()) {
+			assertEquals(sequentialFilesystem.readTextFile(file),
+					FileUtils.readFileToString(new File(outputDir, file), StandardCharsets.UTF_8));
+		}
+	}
+
+	@Test
+	void parallelModeWritesFilesOnCallingThread() {
+		// given
+		ContextMappingModel model = getOriginalResourceOfTestCML("class-diagram-generation-aggregate-test-1.cml")
+				.getContextMappingModel();
+		ThreadRecordingFileSystemAccess filesystem = new ThreadRecordingFileSystemAccess();
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+
+		// when
+		try {
+			PlantUMLGenerator parallelGenerator = new PlantUMLGenerator();
+			parallelGenerator.setExecutor(executor);
+			parallelGenerator.doGenerate(new ContextMappingModelResourceMock(model, "testmodel", "cml"), filesystem,
+					new IGeneratorContextMock());
+		} finally {
+			executor.shutdown();
+		}
+
+		// then
+		assertFalse(filesystem.getGeneratedFilesSet().isEmpty());
+		assertEquals(Collections.singleton(Thread.currentThread()), filesystem.writingThreads);
+	}
+
+	@Test
+	void cannotLimitDiagramsInFlightToLessThanOne() {
+		assertThrows(IllegalArgumentException.class, () -> {
+			this.generator.setMaxDiagramsInFlight(0);
+		});
+	}
+
 	@Test
 	void canCreateBoundedContextClassDiagramsWithoutContextMap() {
 		// given
@@ -285,4 +410,33 @@ class PlantUMLGeneratorTest extends AbstractCMLInputFileTest {
 		return "/integ-test-files/generators/plantuml/";
 	}
 
+	/**
+	 * Not thread-safe on purpose; records the threads that write files.
+	 */
+	private static class ThreadRecordingFileSystemAccess extends IFileSystemAccess2Mock implements StreamingFileSystemAccess {
+		private Set<Thread> writingThreads = new HashSet<>();
+
+		@Override
+		public void generateFile(String fileName, CharSequence contents) {
+			writingThreads.add(Thread.currentThread());
+			super.generateFile(fileName, contents);
+		}
+
+		@Override
+		public Writer openFileWriter(String fileName) {
+			writingThreads.add(Thread.currentThread());
+			return new StringWriter() {
+				@Override
+				public void close() {
+					ThreadRecordingFileSystemAccess.super.generateFile(fileName, toString());
+				}
+			};
+		}
+
+		@Override
+		public Reader openFileReader(String fileName) {
+			return new StringReader(readTextFile(fileName).toString());
+		}
+	}
+
 }
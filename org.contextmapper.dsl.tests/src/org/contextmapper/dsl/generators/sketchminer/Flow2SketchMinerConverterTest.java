@@ -0,0 +1,167 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.generators.sketchminer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.apache.commons.io.FileUtils;
+import org.contextmapper.dsl.AbstractCMLInputFileTest;
+import org.contextmapper.dsl.contextMappingDSL.ContextMappingModel;
+import org.contextmapper.dsl.contextMappingDSL.Flow;
+import org.contextmapper.dsl.generator.exception.GeneratorInputException;
+import org.contextmapper.dsl.generator.sketchminer.converter.Flow2SketchMinerConverter;
+import org.contextmapper.dsl.generator.sketchminer.model.SketchMinerModel;
+import org.contextmapper.dsl.generator.sketchminer.model.TaskSequence;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.xtext.EcoreUtil2;
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.Lists;
+
+public class Flow2SketchMinerConverterTest extends AbstractCMLInputFileTest {
+
+	@Test
+	public void canConvertWideParallelFlow() throws IOException {
+		// given
+		List<String> operations = Lists.newArrayList("Start");
+		List<String> events = Lists.newArrayList();
+		List<String> steps = Lists.newArrayList();
+		for (int i = 0; i < 50; i++) {
+			operations.add("Command" + i);
+			events.add("Event" + i);
+			steps.add("event Event" + i + " triggers operation Command" + i);
+		}
+		steps.add(0, "operation Start emits event " + String.join(" + ", events));
+		Flow flow = createFlow(operations, events, steps);
+
+		// when
+		SketchMinerModel model = new Flow2SketchMinerConverter(flow).convert();
+
+		// then
+		assertEquals(51, model.getSequences().size());
+		assertEquals(50, model.getSequences().stream().filter(TaskSequence::isMergingFragment).count());
+	}
+
+	@Test
+	public void canConvertDeepFlowWithParallelJoins() throws IOException {
+		// given
+		Flow flow = createParallelJoinChain(30);
+
+		// when
+		SketchMinerModel model = new Flow2SketchMinerConverter(flow).convert();
+
+		// then
+		assertEquals(91, model.getSequences().size());
+		assertEquals("Command0", model.getSequences().get(0).getTasks().get(0).getName());
+	}
+
+	@Test
+	public void numberOfSequencesGrowsLinearlyWithParallelJoins() throws IOException {
+		// given
+		Flow smallFlow = createParallelJoinChain(10);
+		Flow largeFlow = createParallelJoinChain(20);
+
+		// when
+		int smallModelSequences = new Flow2SketchMinerConverter(smallFlow).convert().getSequences().size();
+		int largeModelSequences = new Flow2SketchMinerConverter(largeFlow).convert().getSequences().size();
+
+		// then
+		assertEquals(31, smallModelSequences);
+		assertEquals(61, largeModelSequences);
+	}
+
+	@Test
+	public void canConvertAllPathsOfExclusiveGateways() throws IOException {
+		// given
+		Flow flow = createExclusiveGatewayChain(3);
+
+		// when
+		SketchMinerModel model = new Flow2SketchMinerConverter(flow).convert();
+
+		// then
+		assertEquals(8, model.getSequences().size());
+	}
+
+	@Test
+	public void throwsExceptionIfFlowHasTooManyPaths() throws IOException {
+		// given
+		Flow flow = createExclusiveGatewayChain(20);
+		Flow2SketchMinerConverter converter = new Flow2SketchMinerConverter(flow, 100);
+
+		// when, then
+		assertThrows(GeneratorInputException.class, () -> {
+			converter.convert();
+		});
+	}
+
+	private Flow createParallelJoinChain(int length) throws IOException {
+		List<String> operations = Lists.newArrayList();
+		List<String> events = Lists.newArrayList();
+		List<String> steps = Lists.newArrayList();
+		for (int i = 0; i < length; i++) {
+			operations.add("Command" + i);
+			events.add("First" + i);
+			events.add("Second" + i);
+			steps.add("operation Command" + i + " emits event First" + i + " + Second" + i);
+			steps.add("event First" + i + " + Second" + i + " triggers operation Command" + (i + 1));
+		}
+		operations.add("Command" + length);
+		return createFlow(operations, events, steps);
+	}
+
+	private Flow createExclusiveGatewayChain(int length) throws IOException {
+		List<String> operations = Lists.newArrayList();
+		List<String> events = Lists.newArrayList("Event0");
+		List<String> steps = Lists.newArrayList();
+		for (int i = 0; i < length; i++) {
+			operations.add("First" + i);
+			operations.add("Second" + i);
+			events.add("Event" + (i + 1));
+			steps.add("event Event" + i + " triggers operation First" + i + " X Second" + i);
+			steps.add("operation First" + i + " emits event Event" + (i + 1));
+			steps.add("operation Second" + i + " emits event Event" + (i + 1));
+		}
+		return createFlow(operations, events, steps);
+	}
+
+	private Flow createFlow(List<String> operations, List<String> events, List<String> steps) throws IOException {
+		StringBuilder cml = new StringBuilder();
+		cml.append("BoundedContext TestContext {\n\tApplication {\n\t\tService AppService {\n");
+		operations.forEach(o -> cml.append("\t\t\tvoid ").append(o).append("();\n"));
+		cml.append("\t\t}\n\t\tFlow TestFlow {\n");
+		steps.forEach(s -> cml.append("\t\t\t").append(s).append("\n"));
+		cml.append("\t\t}\n\t}\n\tAggregate TestAggregate {\n");
+		events.forEach(e -> cml.append("\t\tDomainEvent ").append(e).append("\n"));
+		cml.append("\t}\n}\n");
+
+		File cmlFile = new File(testDir, "flow-" + operations.size() + "-" + steps.size() + ".cml");
+		FileUtils.writeStringToFile(cmlFile, cml.toString(), StandardCharsets.UTF_8);
+		ContextMappingModel model = (ContextMappingModel) resourceSet.getResource(URI.createFileURI(cmlFile.getAbsolutePath()), true).getContents().get(0);
+		return EcoreUtil2.eAllOfType(model, Flow.class).get(0);
+	}
+
+	@Override
+	protected String getTestFileDirectory() {
+		return "/integ-test-files/sketchminer/";
+	}
+
+}
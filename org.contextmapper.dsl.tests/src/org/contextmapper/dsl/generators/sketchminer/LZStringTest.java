@@ -0,0 +1,77 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.generators.sketchminer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.contextmapper.dsl.generator.sketchminer.LZString;
+import org.junit.jupiter.api.Test;
+
+public class LZStringTest {
+
+	@Test
+	public void canCompressEmptyInput() {
+		// given
+		String input = "";
+
+		// when
+		String output = LZString.compressToEncodedURIComponent(input);
+
+		// then
+		assertEquals("Q", output);
+		assertEquals("", LZString.compressToEncodedURIComponent(null));
+	}
+
+	@Test
+	public void canCompressRepeatedCharacters() {
+		// given
+		String input1 = "a";
+		String input2 = "aaaaaaaaaa";
+
+		// when
+		String output1 = LZString.compressToEncodedURIComponent(input1);
+		String output2 = LZString.compressToEncodedURIComponent(input2);
+
+		// then
+		assertEquals("IZA", output1);
+		assertEquals("IY1o", output2);
+	}
+
+	@Test
+	public void canCompressSketchMinerInput() {
+		// given
+		String input = "bpln:v1\n--\nTestContext Application:\n\nservice StartCommand\n(FirstEvent)\nservice EndCommand\n\n";
+
+		// when
+		String output = LZString.compressToEncodedURIComponent(input);
+
+		// then
+		assertEquals("EYBwNgdgXAbgjAKALRIQFQKYGcAuBhAewhwwA8cACAQRHAEsBjAQxzqKgQSwwCcZGMFAMo4mPfAQC2kphAAmCABQAxOj1wBRGBmIBKLr34NBG+YWmyFCIA", output);
+	}
+
+	@Test
+	public void canCompressCharactersOutsideOfLatin1() {
+		// given
+		String input = "Stra\u00DFe \u4E2D\u6587 \u00E9v\u00E9nement";
+
+		// when
+		String output = LZString.compressToEncodedURIComponent(input);
+
+		// then
+		assertEquals("MoFwTghg+wpgBIWjlDhpnAlwN1QOxgWxliEA", output);
+	}
+
+}
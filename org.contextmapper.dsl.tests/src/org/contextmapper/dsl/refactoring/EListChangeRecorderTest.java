@@ -0,0 +1,117 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.refactoring;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.contextmapper.dsl.contextMappingDSL.Aggregate;
+import org.contextmapper.dsl.contextMappingDSL.BoundedContext;
+import org.contextmapper.dsl.contextMappingDSL.ContextMappingDSLFactory;
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.Lists;
+
+public class EListChangeRecorderTest {
+
+	@Test
+	public void changesListImmediately() {
+		// given
+		BoundedContext bc = ContextMappingDSLFactory.eINSTANCE.createBoundedContext();
+		Aggregate aggregate1 = createAggregate("Aggregate1");
+		Aggregate aggregate2 = createAggregate("Aggregate2");
+		EListChangeRecorder recorder = new EListChangeRecorder();
+
+		// when
+		recorder.add(bc.getAggregates(), aggregate1);
+		recorder.addAll(bc.getAggregates(), Lists.newArrayList(aggregate2, createAggregate("Aggregate3")));
+		recorder.remove(bc.getAggregates(), aggregate2);
+
+		// then
+		assertEquals(Lists.newArrayList("Aggregate1", "Aggregate3"), getAggregateNames(bc));
+		assertTrue(recorder.hasChanges());
+	}
+
+	@Test
+	public void refillsEveryChangedListOnce() {
+		// given
+		BoundedContext bc = ContextMappingDSLFactory.eINSTANCE.createBoundedContext();
+		EListChangeRecorder recorder = new EListChangeRecorder();
+		for (int i = 0; i < 1000; i++)
+			recorder.add(bc.getAggregates(), createAggregate("Aggregate" + i));
+		NotificationCounter counter = new NotificationCounter();
+		bc.eAdapters().add(counter);
+
+		// when
+		recorder.apply();
+
+		// then
+		assertEquals(2, counter.notifications);
+		assertEquals(1000, bc.getAggregates().size());
+		assertEquals("Aggregate0", bc.getAggregates().get(0).getName());
+		assertEquals("Aggregate999", bc.getAggregates().get(999).getName());
+		assertEquals(bc, bc.getAggregates().get(999).eContainer());
+		assertFalse(recorder.hasChanges());
+	}
+
+	@Test
+	public void canDiscardRecordedChanges() {
+		// given
+		BoundedContext bc = ContextMappingDSLFactory.eINSTANCE.createBoundedContext();
+		EListChangeRecorder recorder = new EListChangeRecorder();
+		recorder.add(bc.getAggregates(), createAggregate("Aggregate1"));
+		NotificationCounter counter = new NotificationCounter();
+		bc.eAdapters().add(counter);
+
+		// when
+		recorder.clear();
+		recorder.apply();
+
+		// then
+		assertFalse(recorder.hasChanges());
+		assertEquals(0, counter.notifications);
+		assertEquals(1, bc.getAggregates().size());
+	}
+
+	private Aggregate createAggregate(String name) {
+		Aggregate aggregate = ContextMappingDSLFactory.eINSTANCE.createAggregate();
+		aggregate.setName(name);
+		return aggregate;
+	}
+
+	private List<String> getAggregateNames(BoundedContext bc) {
+		return bc.getAggregates().stream().map(a -> a.getName()).collect(Collectors.toList());
+	}
+
+	private class NotificationCounter extends AdapterImpl {
+
+		private int notifications = 0;
+
+		@Override
+		public void notifyChanged(Notification notification) {
+			if (!notification.isTouch())
+				notifications++;
+		}
+
+	}
+
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.refactoring;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+
+import org.contextmapper.dsl.contextMappingDSL.Aggregate;
+import org.contextmapper.dsl.contextMappingDSL.BoundedContext;
+import org.contextmapper.dsl.contextMappingDSL.ContextMappingDSLFactory;
+import org.contextmapper.dsl.contextMappingDSL.SculptorModule;
+import org.contextmapper.tactic.dsl.tacticdsl.Entity;
+import org.contextmapper.tactic.dsl.tacticdsl.TacticdslFactory;
+import org.junit.jupiter.api.Test;
+
+public class RefactoringSymbolTableTest {
+
+	@Test
+	public void canLookupElementsByName() {
+		// given
+		BoundedContext bc1 = createBoundedContext("Context1");
+		Aggregate aggregate1 = createAggregate("Customers", "Customer");
+		bc1.getAggregates().add(aggregate1);
+		BoundedContext bc2 = createBoundedContext("Context2");
+		SculptorModule module = ContextMappingDSLFactory.eINSTANCE.createSculptorModule();
+		module.setName("CustomerModule");
+		module.getAggregates().add(createAggregate("Customers", "Address"));
+		bc2.getModules().add(module);
+
+		// when
+		RefactoringSymbolTable symbolTable = new RefactoringSymbolTable(Arrays.asList(bc1, bc2));
+
+		// then
+		assertSame(bc2, symbolTable.getBoundedContext("Context2").get());
+		assertFalse(symbolTable.getBoundedContext("Context3").isPresent());
+		assertEquals(2, symbolTable.getAggregates("Customers").size());
+		assertSame(aggregate1, symbolTable.getAggregates("Customers").get(0));
+		assertEquals(1, symbolTable.getDomainObjects("Address").size());
+		assertTrue(symbolTable.getDomainObjects("Order").isEmpty());
+	}
+
+	@Test
+	public void reflectsModelOfFirstLookup() {
+		// given
+		BoundedContext bc = createBoundedContext("Context");
+		RefactoringSymbolTable symbolTable = new RefactoringSymbolTable(Arrays.asList(bc));
+		bc.getAggregates().add(createAggregate("Customers", "Customer"));
+
+		// when
+		symbolTable.getAggregates("Customers");
+		bc.getAggregates().add(createAggregate("Addresses", "Address"));
+
+		// then
+		assertEquals(1, symbolTable.getAggregates("Customers").size());
+		assertTrue(symbolTable.getAggregates("Addresses").isEmpty());
+	}
+
+	private BoundedContext createBoundedContext(String name) {
+		BoundedContext bc = ContextMappingDSLFactory.eINSTANCE.createBoundedContext();
+		bc.setName(name);
+		return bc;
+	}
+
+	private Aggregate createAggregate(String name, String entityName) {
+		Aggregate aggregate = ContextMappingDSLFactory.eINSTANCE.createAggregate();
+		aggregate.setName(name);
+		Entity entity = TacticdslFactory.eINSTANCE.createEntity();
+		entity.setName(entityName);
+		aggregate.getDomainObjects().add(entity);
+		return aggregate;
+	}
+
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.scoping;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+
+import org.contextmapper.dsl.AbstractCMLInputFileTest;
+import org.contextmapper.dsl.contextMappingDSL.Aggregate;
+import org.contextmapper.dsl.contextMappingDSL.BoundedContext;
+import org.contextmapper.dsl.contextMappingDSL.ContextMappingDSLFactory;
+import org.contextmapper.dsl.contextMappingDSL.Domain;
+import org.contextmapper.dsl.contextMappingDSL.Subdomain;
+import org.contextmapper.tactic.dsl.tacticdsl.Entity;
+import org.contextmapper.tactic.dsl.tacticdsl.Reference;
+import org.contextmapper.tactic.dsl.tacticdsl.TacticdslFactory;
+import org.contextmapper.tactic.dsl.tacticdsl.TacticdslPackage;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.InternalEObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.xtext.naming.QualifiedName;
+import org.eclipse.xtext.resource.EObjectDescription;
+import org.eclipse.xtext.resource.IEObjectDescription;
+import org.eclipse.xtext.resource.IResourceDescription;
+import org.eclipse.xtext.scoping.IScope;
+import org.eclipse.xtext.scoping.impl.SimpleScope;
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Lists;
+
+public class CMLScopingHelperTest extends AbstractCMLInputFileTest {
+
+	@Test
+	public void removesDomainObjectsOfDomainsFromBoundedContextScope() {
+		// given
+		Entity bcEntity = createEntity("Customer");
+		Reference reference = createReference(bcEntity);
+		createBoundedContext(bcEntity);
+		Entity subdomainEntity = createEntity("Claim");
+		createDomain(subdomainEntity);
+		IScope scope = new SimpleScope(Lists.newArrayList(EObjectDescription.create("Customer", bcEntity), EObjectDescription.create("Claim", subdomainEntity)));
+
+		// when
+		IScope reducedScope = injector.getInstance(CMLScopingHelper.class).reduceReferenceScope(scope, reference, null);
+
+		// then
+		assertNotNull(reducedScope.getSingleElement(QualifiedName.create("Customer")));
+		assertNull(reducedScope.getSingleElement(QualifiedName.create("Claim")));
+		assertEquals(1, Iterables.size(reducedScope.getAllElements()));
+	}
+
+	@Test
+	public void removesDomainObjectsOfBoundedContextsFromDomainScope() {
+		// given
+		Entity bcEntity = createEntity("Customer");
+		createBoundedContext(bcEntity);
+		Entity subdomainEntity = createEntity("Claim");
+		Reference reference = createReference(subdomainEntity);
+		createDomain(subdomainEntity);
+		IScope scope = new SimpleScope(Lists.newArrayList(EObjectDescription.create("Customer", bcEntity), EObjectDescription.create("Claim", subdomainEntity)));
+
+		// when
+		IScope reducedScope = injector.getInstance(CMLScopingHelper.class).reduceReferenceScope(scope, reference, null);
+
+		// then
+		assertNull(reducedScope.getSingleElement(QualifiedName.create("Customer")));
+		assertNotNull(reducedScope.getSingleElement(QualifiedName.create("Claim")));
+	}
+
+	@Test
+	public void usesExportedOwnerWithoutResolvingProxies() {
+		// given
+		Entity bcEntity = createEntity("Customer");
+		Reference reference = createReference(bcEntity);
+		createBoundedContext(bcEntity);
+		IEObjectDescription domainDescription = EObjectDescription.create(QualifiedName.create("Claim"), createProxy("Claim"),
+				Collections.singletonMap(CMLResourceDescriptionStrategy.OWNER_KEY, CMLResourceDescriptionStrategy.DOMAIN_OWNER));
+		IEObjectDescription bcDescription = EObjectDescription.create(QualifiedName.create("Address"), createProxy("Address"),
+				Collections.singletonMap(CMLResourceDescriptionStrategy.OWNER_KEY, CMLResourceDescriptionStrategy.BOUNDED_CONTEXT_OWNER));
+		IScope scope = new SimpleScope(Lists.newArrayList(domainDescription, bcDescription));
+
+		// when
+		IScope reducedScope = injector.getInstance(CMLScopingHelper.class).reduceReferenceScope(scope, reference, null);
+
+		// then
+		assertNull(reducedScope.getSingleElement(QualifiedName.create("Claim")));
+		assertTrue(reducedScope.getSingleElement(QualifiedName.create("Address")).getEObjectOrProxy().eIsProxy());
+	}
+
+	@Test
+	public void exportsOwnerOfDomainObjects() {
+		// given
+		Resource input = resourceSet.getResource(URI.createFileURI(getTestFile("domain-object-owner-test-1.cml").getAbsolutePath()), true);
+
+		// when
+		IResourceDescription description = injector.getInstance(IResourceDescription.Manager.class).getResourceDescription(input);
+
+		// then
+		assertEquals(CMLResourceDescriptionStrategy.BOUNDED_CONTEXT_OWNER, getOwner(description, "CustomerContext.Customers.Address"));
+		assertEquals(CMLResourceDescriptionStrategy.DOMAIN_OWNER, getOwner(description, "InsuranceDomain.CustomerDomain.Policy"));
+	}
+
+	private String getOwner(IResourceDescription description, String qualifiedName) {
+		IEObjectDescription objectDescription = Iterables.getOnlyElement(description.getExportedObjects(TacticdslPackage.Literals.ENTITY,
+				QualifiedName.create(qualifiedName.split("\\.")), false));
+		return objectDescription.getUserData(CMLResourceDescriptionStrategy.OWNER_KEY);
+	}
+
+	private Entity createEntity(String name) {
+		Entity entity = TacticdslFactory.eINSTANCE.createEntity();
+		entity.setName(name);
+		return entity;
+	}
+
+	private Entity createProxy(String name) {
+		Entity proxy = createEntity(name);
+		((InternalEObject) proxy).eSetProxyURI(URI.createURI("other.cml#//" + name));
+		return proxy;
+	}
+
+	private Reference createReference(Entity entity) {
+		Reference reference = TacticdslFactory.eINSTANCE.createReference();
+		reference.setName("ref");
+		entity.getReferences().add(reference);
+		return reference;
+	}
+
+	private BoundedContext createBoundedContext(Entity entity) {
+		BoundedContext bc = ContextMappingDSLFactory.eINSTANCE.createBoundedContext();
+		bc.setName("CustomerContext");
+		Aggregate aggregate = ContextMappingDSLFactory.eINSTANCE.createAggregate();
+		aggregate.setName("Customers");
+		aggregate.getDomainObjects().add(entity);
+		bc.getAggregates().add(aggregate);
+		return bc;
+	}
+
+	private Domain createDomain(Entity entity) {
+		Domain domain = ContextMappingDSLFactory.eINSTANCE.createDomain();
+		domain.setName("InsuranceDomain");
+		Subdomain subdomain = ContextMappingDSLFactory.eINSTANCE.createSubdomain();
+		subdomain.setName("CustomerDomain");
+		subdomain.getEntities().add(entity);
+		domain.getSubdomains().add(subdomain);
+		return domain;
+	}
+
+	@Override
+	protected String getTestFileDirectory() {
+		return "/integ-test-files/scoping/";
+	}
+
+}
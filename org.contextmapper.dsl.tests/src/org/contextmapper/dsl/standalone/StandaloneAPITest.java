@@ -17,11 +17,16 @@ package org.contextmapper.dsl.standalone;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.File;
 import java.io.IOException;
 import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.commons.io.FileUtils;
 import org.contextmapper.dsl.cml.CMLResource;
@@ -31,9 +36,16 @@ import org.contextmapper.dsl.contextMappingDSL.ContextMappingModel;
 import org.contextmapper.dsl.generator.ContextMapGenerator;
 import org.contextmapper.dsl.generator.contextmap.ContextMapFormat;
 import org.contextmapper.dsl.refactoring.SplitBoundedContextByOwner;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.xtext.generator.AbstractGenerator;
+import org.eclipse.xtext.generator.IFileSystemAccess2;
+import org.eclipse.xtext.generator.IGeneratorContext;
 import org.eclipse.xtext.resource.SaveOptions;
 import org.junit.jupiter.api.Test;
 
+import com.google.inject.Injector;
+
 public class StandaloneAPITest {
 
 	@Test
@@ -50,6 +62,21 @@ public class StandaloneAPITest {
 		assertEquals("HelloWorldContext", cml.getContextMappingModel().getBoundedContexts().get(0).getName());
 	}
 
+	@Test
+	public void sharesInjectorBetweenAPIInstances() {
+		// given
+		ContextMapperStandaloneSetup.initialize();
+
+		// when
+		Injector injector = ContextMapperStandaloneSetup.getInjector();
+		ContextMapperStandaloneSetup.getStandaloneAPI();
+
+		// then
+		assertTrue(ContextMapperStandaloneSetup.isInitialized());
+		assertTrue(ContextMapperStandaloneSetup.getStartupTimeMillis() >= 0);
+		assertSame(injector, ContextMapperStandaloneSetup.getInjector());
+	}
+
 	@Test
 	public void canLoadCMLResourceViaFile() {
 		// given
@@ -138,6 +165,67 @@ public class StandaloneAPITest {
 		assertTrue(expectedOutput.exists());
 	}
 
+	@Test
+	public void canCallGeneratorsForAllFilesInDirectory() {
+		// given
+		StandaloneContextMapperAPI contextMapper = ContextMapperStandaloneSetup.getStandaloneAPI();
+		File expectedOutput = new File("./out/batch/simple-context-map_ContextMap.png");
+		ensureFileDoesNotExist(expectedOutput);
+
+		// when
+		BatchCompilationReport report = contextMapper.callGenerators(new File("./integ-test-files/standalone"), Arrays.asList(() -> {
+			ContextMapGenerator generator = new ContextMapGenerator();
+			generator.setContextMapFormats(ContextMapFormat.PNG);
+			return generator;
+		}), "./out/batch");
+
+		// then
+		assertEquals(3, report.getFileResults().size());
+		assertTrue(expectedOutput.exists());
+	}
+
+	@Test
+	public void canCallGeneratorsForFilesMatchingGlob() {
+		// given
+		StandaloneContextMapperAPI contextMapper = ContextMapperStandaloneSetup.getStandaloneAPI();
+		File expectedOutput = new File("./out/batch-glob/simple-context-map_ContextMap.png");
+		ensureFileDoesNotExist(expectedOutput);
+
+		// when
+		BatchCompilationReport report = contextMapper.callGenerators(new File("./integ-test-files/standalone"), "simple-*.cml", Arrays.asList(() -> {
+			ContextMapGenerator generator = new ContextMapGenerator();
+			generator.setContextMapFormats(ContextMapFormat.PNG);
+			return generator;
+		}), "./out/batch-glob", 2);
+
+		// then
+		assertEquals(1, report.getFileResults().size());
+		assertTrue(report.isSuccessful());
+		assertTrue(expectedOutput.exists());
+	}
+
+	@Test
+	public void processesFilesWithSharedImportsInSeparateResourceSets() {
+		// given
+		StandaloneContextMapperAPI contextMapper = ContextMapperStandaloneSetup.getStandaloneAPI();
+		Set<ResourceSet> resourceSets = Collections.newSetFromMap(new ConcurrentHashMap<>());
+
+		// when
+		BatchCompilationReport report = contextMapper.callGenerators(new File("./integ-test-files/imports"), "transitive-import-*.cml", Arrays.asList(() -> {
+			return new AbstractGenerator() {
+				@Override
+				public void doGenerate(Resource input, IFileSystemAccess2 fsa, IGeneratorContext context) {
+					resourceSets.add(input.getResourceSet());
+				}
+			};
+		}), "./out/batch-imports", 3);
+
+		// then
+		assertEquals(3, report.getFileResults().size());
+		assertTrue(report.isSuccessful());
+		assertEquals(3, resourceSets.size());
+	}
+
 	@Test
 	public void canApplyRefactoring() throws IOException {
 		// given
@@ -15,6 +15,8 @@
  */
 package org.contextmapper.dsl
 
+import org.contextmapper.dsl.scoping.CMLResourceDescriptionStrategy
+import org.eclipse.xtext.resource.IDefaultResourceDescriptionStrategy
 import org.eclipse.xtext.util.formallang.PdaUtil
 import org.eclipse.xtext.scoping.impl.ImportUriGlobalScopeProvider
 
@@ -30,5 +32,9 @@ class ContextMappingDSLRuntimeModule extends AbstractContextMappingDSLRuntimeMod
 	override bindIGlobalScopeProvider() {
 		return ImportUriGlobalScopeProvider
 	}
+
+	def Class<? extends IDefaultResourceDescriptionStrategy> bindIDefaultResourceDescriptionStrategy() {
+		return CMLResourceDescriptionStrategy
+	}
 	
 }
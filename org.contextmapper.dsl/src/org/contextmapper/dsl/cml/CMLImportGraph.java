@@ -0,0 +1,241 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.cml;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.contextmapper.dsl.contextMappingDSL.ContextMappingModel;
+import org.contextmapper.dsl.contextMappingDSL.Import;
+import org.eclipse.emf.common.notify.Adapter;
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+
+import com.google.common.collect.Lists;
+
+/**
+ * The import graph of a root CML resource: all (transitively) imported CML
+ * resources, a topological order (imported resources first) and the import
+ * cycles.
+ *
+ * Graphs are cached per resource set and root resource. A cached graph is
+ * reused as long as none of its resources has been removed from the resource
+ * set, replaced its root model, changed its import statements or its
+ * modification time stamp.
+ *
+ * @author The Context Mapper Project Team
+ */
+public class CMLImportGraph {
+
+	private final Resource root;
+	private final Map<Resource, Node> nodes;
+	private final List<CMLResource> topologicalOrder;
+	private final List<List<CMLResource>> cycles;
+
+	private CMLImportGraph(Resource root, Map<Resource, Node> nodes, List<CMLResource> topologicalOrder, List<List<CMLResource>> cycles) {
+		this.root = root;
+		this.nodes = nodes;
+		this.topologicalOrder = Collections.unmodifiableList(topologicalOrder);
+		this.cycles = Collections.unmodifiableList(cycles);
+	}
+
+	/**
+	 * Returns the (possibly cached) import graph of the given root resource.
+	 */
+	public static CMLImportGraph of(CMLResource rootResource) {
+		Resource resource = rootResource;
+		ResourceSet rs = resource.getResourceSet();
+		if (rs == null)
+			return build(resource, null);
+
+		ImportGraphCacheAdapter cache = ImportGraphCacheAdapter.getOrInstall(rs);
+		synchronized (cache) {
+			URI uri = resource.getURI();
+			CMLImportGraph graph = cache.graphs.get(uri);
+			if (graph == null || graph.root != unwrap(resource) || !graph.isUpToDate(rs)) {
+				graph = build(resource, rs);
+				cache.graphs.put(uri, graph);
+			}
+			return graph;
+		}
+	}
+
+	/**
+	 * Returns the CML resources directly imported by the root resource.
+	 */
+	public Set<CMLResource> getDirectImports() {
+		return nodes.get(root).getImportedCMLResources(nodes);
+	}
+
+	/**
+	 * Returns all CML resources imported by the root resource, directly or
+	 * transitively (the root resource itself is not part of the result).
+	 */
+	public Set<CMLResource> getTransitiveImports() {
+		Set<CMLResource> result = new LinkedHashSet<>(topologicalOrder);
+		result.remove(nodes.get(root).cmlResource);
+		return result;
+	}
+
+	/**
+	 * Returns all CML resources of the graph (including the root resource),
+	 * ordered so that every resource comes after the resources it imports.
+	 * Resources on an import cycle are ordered by the order in which they have
+	 * been discovered.
+	 */
+	public List<CMLResource> getTopologicalOrder() {
+		return topologicalOrder;
+	}
+
+	public boolean hasCycles() {
+		return !cycles.isEmpty();
+	}
+
+	/**
+	 * Returns the import cycles; every cycle is a list of the resources on it, in
+	 * import order.
+	 */
+	public List<List<CMLResource>> getCycles() {
+		return cycles;
+	}
+
+	private boolean isUpToDate(ResourceSet rs) {
+		for (Node node : nodes.values()) {
+			if (!node.isUpToDate(rs))
+				return false;
+		}
+		return true;
+	}
+
+	private static CMLImportGraph build(Resource rootResource, ResourceSet rs) {
+		Resource root = unwrap(rootResource);
+		Map<Resource, Node> nodes = new LinkedHashMap<>();
+		List<CMLResource> topologicalOrder = Lists.newArrayList();
+		List<List<CMLResource>> cycles = Lists.newArrayList();
+		visit(root, rs, nodes, Lists.newArrayList(), topologicalOrder, cycles);
+		return new CMLImportGraph(root, nodes, topologicalOrder, cycles);
+	}
+
+	private static void visit(Resource resource, ResourceSet rs, Map<Resource, Node> nodes, List<Resource> path, List<CMLResource> topologicalOrder,
+			List<List<CMLResource>> cycles) {
+		Node node = new Node(resource);
+		nodes.put(resource, node);
+		if (node.cmlResource == null)
+			return;
+
+		path.add(resource);
+		for (String importURI : node.importURIs) {
+			if (rs == null)
+				continue;
+			Resource importedResource = unwrap(rs.getResource(URI.createURI(importURI).resolve(resource.getURI()), true));
+			node.importedResources.add(importedResource);
+			int indexOnPath = path.indexOf(importedResource);
+			if (indexOnPath >= 0) {
+				cycles.add(path.subList(indexOnPath, path.size()).stream().map(r -> nodes.get(r).cmlResource).collect(Collectors.toList()));
+			} else if (!nodes.containsKey(importedResource)) {
+				visit(importedResource, rs, nodes, path, topologicalOrder, cycles);
+			}
+		}
+		path.remove(path.size() - 1);
+		topologicalOrder.add(node.cmlResource);
+	}
+
+	private static Resource unwrap(Resource resource) {
+		return resource instanceof CMLResource ? ((CMLResource) resource).getResource() : resource;
+	}
+
+	private static class Node {
+
+		private final Resource resource;
+		private final EObject rootObject;
+		private final long timeStamp;
+		private final List<String> importURIs;
+		private final List<Resource> importedResources = Lists.newArrayList();
+		private final CMLResource cmlResource;
+
+		Node(Resource resource) {
+			this.resource = resource;
+			this.rootObject = resource.getContents().isEmpty() ? null : resource.getContents().get(0);
+			this.timeStamp = resource.getTimeStamp();
+			if (rootObject instanceof ContextMappingModel) {
+				this.cmlResource = new CMLResource(resource);
+				this.importURIs = getImportURIs((ContextMappingModel) rootObject);
+			} else {
+				this.cmlResource = null;
+				this.importURIs = Collections.emptyList();
+			}
+		}
+
+		boolean isUpToDate(ResourceSet rs) {
+			if (resource.getResourceSet() != rs || resource.getTimeStamp() != timeStamp)
+				return false;
+			EObject currentRootObject = resource.getContents().isEmpty() ? null : resource.getContents().get(0);
+			if (currentRootObject != rootObject)
+				return false;
+			return cmlResource == null || importURIs.equals(getImportURIs((ContextMappingModel) rootObject));
+		}
+
+		Set<CMLResource> getImportedCMLResources(Map<Resource, Node> nodes) {
+			Set<CMLResource> result = new LinkedHashSet<>();
+			for (Resource importedResource : importedResources) {
+				CMLResource importedCMLResource = nodes.get(importedResource).cmlResource;
+				if (importedCMLResource != null)
+					result.add(importedCMLResource);
+			}
+			return result;
+		}
+
+		private static List<String> getImportURIs(ContextMappingModel model) {
+			List<String> uris = Lists.newArrayList();
+			for (Import cmlImport : model.getImports()) {
+				uris.add(cmlImport.getImportURI());
+			}
+			return uris;
+		}
+
+	}
+
+	private static class ImportGraphCacheAdapter extends AdapterImpl {
+
+		private final Map<URI, CMLImportGraph> graphs = new HashMap<>();
+
+		static synchronized ImportGraphCacheAdapter getOrInstall(ResourceSet rs) {
+			for (Adapter adapter : rs.eAdapters()) {
+				if (adapter instanceof ImportGraphCacheAdapter)
+					return (ImportGraphCacheAdapter) adapter;
+			}
+			ImportGraphCacheAdapter adapter = new ImportGraphCacheAdapter();
+			rs.eAdapters().add(adapter);
+			return adapter;
+		}
+
+		@Override
+		public boolean isAdapterForType(Object type) {
+			return type == ImportGraphCacheAdapter.class;
+		}
+
+	}
+
+}
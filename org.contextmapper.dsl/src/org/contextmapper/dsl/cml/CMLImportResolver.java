@@ -17,42 +17,30 @@ package org.contextmapper.dsl.cml;
 
 import java.util.Set;
 
-import org.contextmapper.dsl.contextMappingDSL.ContextMappingModel;
-import org.contextmapper.dsl.contextMappingDSL.Import;
-import org.eclipse.emf.common.util.URI;
-import org.eclipse.emf.ecore.resource.Resource;
-import org.eclipse.emf.ecore.resource.ResourceSet;
-
-import com.google.common.collect.Sets;
-
 /**
  * Resolves all imported resources for a root CML model.
  * 
+ * The import graph is cached per resource set (see {@link CMLImportGraph}), so
+ * resolving the imports of an unchanged model repeatedly is cheap.
+ * 
  * @author Stefan Kapferer
  *
  */
 public class CMLImportResolver {
 
+	/**
+	 * Resolves the CML resources directly imported by the given resource.
+	 */
 	public Set<CMLResource> resolveImportedResources(CMLResource rootResource) {
-		Set<CMLResource> importedResources = Sets.newHashSet();
-		Resource resource = rootResource;
-		ResourceSet rs = resource.getResourceSet();
-		ContextMappingModel cmlModel = (ContextMappingModel) resource.getContents().get(0);
-		for (Import cmlImport : cmlModel.getImports()) {
-			URI importURI = URI.createURI(cmlImport.getImportURI()).resolve(resource.getURI());
-			Resource importedResource = rs.getResource(importURI, true);
-			if (isResourceCMLModel(importedResource))
-				importedResources.add(new CMLResource(importedResource));
-		}
-		return importedResources;
+		return CMLImportGraph.of(rootResource).getDirectImports();
 	}
 
-	private boolean isResourceCMLModel(Resource resource) {
-		if (resource.getContents().isEmpty())
-			return false;
-		if (!(resource.getContents().get(0) instanceof ContextMappingModel))
-			return false;
-		return true;
+	/**
+	 * Resolves all CML resources imported by the given resource, directly or
+	 * transitively.
+	 */
+	public Set<CMLResource> resolveTransitivelyImportedResources(CMLResource rootResource) {
+		return CMLImportGraph.of(rootResource).getTransitiveImports();
 	}
 
 }
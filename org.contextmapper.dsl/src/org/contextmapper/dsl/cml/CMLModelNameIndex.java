@@ -0,0 +1,177 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.cml;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.contextmapper.dsl.contextMappingDSL.Aggregate;
+import org.contextmapper.dsl.contextMappingDSL.BoundedContext;
+import org.contextmapper.dsl.contextMappingDSL.ContextMappingModel;
+import org.contextmapper.dsl.contextMappingDSL.Coordination;
+import org.contextmapper.dsl.contextMappingDSL.Domain;
+import org.contextmapper.dsl.contextMappingDSL.Flow;
+import org.contextmapper.dsl.contextMappingDSL.SculptorModule;
+import org.contextmapper.dsl.contextMappingDSL.Subdomain;
+import org.contextmapper.dsl.contextMappingDSL.UserRequirement;
+import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.xtext.util.IResourceScopeCache;
+import org.eclipse.xtext.util.SimpleAttributeResolver;
+
+import com.google.common.collect.Lists;
+
+/**
+ * Index of named CML objects (type -> name -> occurrences) for a root model
+ * and all the models it imports.
+ *
+ * The index of every single resource is built once and cached in the given
+ * resource scope cache, which evicts it as soon as the content of the resource
+ * changes.
+ * Looking up objects by name is therefore a hash lookup per involved resource
+ * instead of a walk over all model objects.
+ *
+ * @author The Context Mapper Project Team
+ */
+public class CMLModelNameIndex {
+
+	private static final String CACHE_KEY = CMLModelNameIndex.class.getName();
+
+	private static final List<Class<? extends EObject>> INDEXED_TYPES = Arrays.asList(BoundedContext.class, Domain.class, Subdomain.class,
+			SculptorModule.class, Aggregate.class, UserRequirement.class, Flow.class, Coordination.class);
+
+	private final ContextMappingModel rootModel;
+	private final IResourceScopeCache cache;
+	private final ResourceIndex rootIndex;
+	private List<ResourceIndex> importedIndexes;
+
+	/**
+	 * @param rootModel the root model of the index
+	 * @param cache     the (injected) resource scope cache in which the indexes of
+	 *                  the single resources are stored; may be null, in which case
+	 *                  nothing is cached
+	 */
+	public CMLModelNameIndex(ContextMappingModel rootModel, IResourceScopeCache cache) {
+		this.rootModel = rootModel;
+		this.cache = cache;
+		this.rootIndex = getResourceIndex(rootModel);
+	}
+
+	/**
+	 * Returns all objects of the given type and with the given name, declared in
+	 * the root model or in one of its imported models.
+	 */
+	public <T extends EObject> List<T> getObjectsByName(Class<T> type, String name) {
+		List<T> objects = Lists.newArrayList(rootIndex.get(type, name));
+		for (ResourceIndex importedIndex : getImportedIndexes()) {
+			objects.addAll(importedIndex.get(type, name));
+		}
+		return objects;
+	}
+
+	/**
+	 * Returns all objects of the given type and with the given name, declared in
+	 * the root model only (imported models are ignored).
+	 */
+	public <T extends EObject> List<T> getObjectsByNameInRootModel(Class<T> type, String name) {
+		return Collections.unmodifiableList(rootIndex.get(type, name));
+	}
+
+	/**
+	 * Returns true if there is more than one object of the given type with the
+	 * given name in the root model and its imported models.
+	 */
+	public boolean isDuplicate(Class<? extends EObject> type, String name) {
+		int count = rootIndex.get(type, name).size();
+		for (ResourceIndex importedIndex : getImportedIndexes()) {
+			if (count > 1)
+				break;
+			count += importedIndex.get(type, name).size();
+		}
+		return count > 1;
+	}
+
+	/**
+	 * Returns true if there is more than one object of the given type with the
+	 * given name in the root model (imported models are ignored).
+	 */
+	public boolean isDuplicateInRootModel(Class<? extends EObject> type, String name) {
+		return rootIndex.get(type, name).size() > 1;
+	}
+
+	private List<ResourceIndex> getImportedIndexes() {
+		if (importedIndexes != null)
+			return importedIndexes;
+
+		importedIndexes = Lists.newArrayList();
+		Resource rootResource = rootModel.eResource();
+		if (rootResource != null) {
+			for (CMLResource importedResource : new CMLImportResolver().resolveImportedResources(new CMLResource(rootResource))) {
+				if (importedResource.getURI().equals(rootResource.getURI()))
+					continue;
+				importedIndexes.add(getResourceIndex(importedResource.getContextMappingModel()));
+			}
+		}
+		return importedIndexes;
+	}
+
+	private ResourceIndex getResourceIndex(ContextMappingModel model) {
+		Resource resource = model.eResource();
+		if (cache == null || resource == null)
+			return new ResourceIndex(model);
+		return cache.get(CACHE_KEY, resource, () -> new ResourceIndex(model));
+	}
+
+	private static class ResourceIndex {
+
+		private final Map<Class<? extends EObject>, Map<String, List<EObject>>> objectsByTypeAndName = new HashMap<>();
+
+		ResourceIndex(ContextMappingModel model) {
+			for (Class<? extends EObject> type : INDEXED_TYPES) {
+				objectsByTypeAndName.put(type, new HashMap<>());
+			}
+			TreeIterator<EObject> iterator = model.eAllContents();
+			while (iterator.hasNext()) {
+				index(iterator.next());
+			}
+		}
+
+		private void index(EObject object) {
+			for (Class<? extends EObject> type : INDEXED_TYPES) {
+				if (!type.isInstance(object))
+					continue;
+				String name = SimpleAttributeResolver.NAME_RESOLVER.apply(object);
+				if (name == null)
+					continue;
+				objectsByTypeAndName.get(type).computeIfAbsent(name, n -> Lists.newArrayList()).add(object);
+			}
+		}
+
+		@SuppressWarnings("unchecked")
+		<T extends EObject> List<T> get(Class<T> type, String name) {
+			Map<String, List<EObject>> objectsByName = objectsByTypeAndName.get(type);
+			if (objectsByName == null)
+				throw new IllegalArgumentException("The type '" + type.getSimpleName() + "' is not indexed by the CML model name index.");
+			return (List<T>) objectsByName.getOrDefault(name, Collections.emptyList());
+		}
+
+	}
+
+}
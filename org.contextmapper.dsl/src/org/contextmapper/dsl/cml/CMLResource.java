@@ -20,12 +20,14 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.contextmapper.dsl.cml.exception.ResourceIsNoCMLModelException;
 import org.contextmapper.dsl.contextMappingDSL.ContextMappingModel;
 import org.contextmapper.dsl.exception.ContextMapperApplicationException;
 import org.eclipse.emf.common.notify.Adapter;
 import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
 import org.eclipse.emf.common.util.EList;
 import org.eclipse.emf.common.util.TreeIterator;
 import org.eclipse.emf.common.util.URI;
@@ -45,7 +47,10 @@ import com.google.common.collect.Iterators;
  */
 public class CMLResource implements Resource {
 
+	private static final AtomicLong ROOT_MODEL_RESOLUTION_COUNTER = new AtomicLong();
+
 	private final Resource resource;
+	private final RootModelCacheAdapter rootModelCache;
 
 	public CMLResource(Resource resource) {
 		if (resource.getContents().isEmpty())
@@ -55,9 +60,29 @@ public class CMLResource implements Resource {
 
 		this.resource = resource;
 		this.resource.setTrackingModification(true);
+		this.rootModelCache = RootModelCacheAdapter.getOrInstall(resource);
 	}
 
 	public ContextMappingModel getContextMappingModel() {
+		ContextMappingModel model = rootModelCache.cachedModel;
+		// cheap sanity check in case notifications have not been delivered
+		if (model == null || resource.getContents().isEmpty() || resource.getContents().get(0) != model) {
+			model = resolveContextMappingModel();
+			rootModelCache.cachedModel = model;
+		}
+		return model;
+	}
+
+	/**
+	 * Returns how many times the containment tree of a CML resource has been
+	 * walked to resolve its root model (all resources, since JVM start).
+	 */
+	public static long getRootModelResolutionCount() {
+		return ROOT_MODEL_RESOLUTION_COUNTER.get();
+	}
+
+	private ContextMappingModel resolveContextMappingModel() {
+		ROOT_MODEL_RESOLUTION_COUNTER.incrementAndGet();
 		List<ContextMappingModel> contextMappingModels = IteratorExtensions.<ContextMappingModel>toList(Iterators.<ContextMappingModel>filter(resource.getAllContents(), ContextMappingModel.class));
 		// CML resource only contains one ContextMappingModel
 		return contextMappingModels.get(0);
@@ -79,6 +104,10 @@ public class CMLResource implements Resource {
 		return resource.getURI().equals(otherResource.resource.getURI());
 	}
 
+	Resource getResource() {
+		return resource;
+	}
+
 	public XtextResource getXtextResource() {
 		if (!(resource instanceof XtextResource))
 			throw new ContextMapperApplicationException("The given resource (" + resource.getURI().toString() + ") is not an XtextResource!");
@@ -220,4 +249,38 @@ public class CMLResource implements Resource {
 		return resource.getWarnings();
 	}
 
+	/**
+	 * Caches the root model of a resource and forgets it as soon as the root
+	 * contents of the resource change (or the resource is unloaded).
+	 */
+	private static class RootModelCacheAdapter extends AdapterImpl {
+
+		private volatile ContextMappingModel cachedModel;
+
+		static synchronized RootModelCacheAdapter getOrInstall(Resource resource) {
+			for (Adapter adapter : resource.eAdapters()) {
+				if (adapter instanceof RootModelCacheAdapter)
+					return (RootModelCacheAdapter) adapter;
+			}
+			RootModelCacheAdapter adapter = new RootModelCacheAdapter();
+			resource.eAdapters().add(adapter);
+			return adapter;
+		}
+
+		@Override
+		public void notifyChanged(Notification notification) {
+			if (notification.getNotifier() instanceof Resource && !notification.isTouch()) {
+				int featureId = notification.getFeatureID(Resource.class);
+				if (featureId == Resource.RESOURCE__CONTENTS || featureId == Resource.RESOURCE__IS_LOADED)
+					cachedModel = null;
+			}
+		}
+
+		@Override
+		public boolean isAdapterForType(Object type) {
+			return type == RootModelCacheAdapter.class;
+		}
+
+	}
+
 }
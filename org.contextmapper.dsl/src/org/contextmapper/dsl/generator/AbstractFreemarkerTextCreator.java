@@ -15,21 +15,14 @@
  */
 package org.contextmapper.dsl.generator;
 
-import java.io.File;
 import java.io.StringWriter;
-import java.net.URL;
 import java.util.HashMap;
 import java.util.Map;
 
-import org.apache.commons.io.FileUtils;
-
-import freemarker.template.Configuration;
 import freemarker.template.Template;
-import freemarker.template.TemplateExceptionHandler;
 
 public abstract class AbstractFreemarkerTextCreator<T> {
 
-	private Configuration freemarkerConfig;
 	private Template freemarkerTemplate;
 
 	public AbstractFreemarkerTextCreator() {
@@ -58,26 +51,7 @@ public abstract class AbstractFreemarkerTextCreator<T> {
 	protected abstract Class<?> getTemplateClass();
 
 	private void loadFreemarkerTemplate() {
-		URL url = getTemplateClass().getResource(getTemplateName());
-		File templateDir = new File(System.getProperty("java.io.tmpdir"), "context-mapper-freemarker-templates-" + getPID());
-		if (!templateDir.exists())
-			templateDir.mkdir();
-		try {
-			FileUtils.copyURLToFile(url, new File(templateDir, getTemplateName()));
-
-			freemarkerConfig = new Configuration(Configuration.VERSION_2_3_22);
-			freemarkerConfig.setDirectoryForTemplateLoading(templateDir);
-			freemarkerConfig.setDefaultEncoding("UTF-8");
-			freemarkerConfig.setTemplateExceptionHandler(TemplateExceptionHandler.RETHROW_HANDLER);
-			freemarkerTemplate = freemarkerConfig.getTemplate(getTemplateName());
-		} catch (Exception e) {
-			throw new RuntimeException("Cannot load freemarker template!", e);
-		}
-	}
-
-	private long getPID() {
-		String processName = java.lang.management.ManagementFactory.getRuntimeMXBean().getName();
-		return Long.parseLong(processName.split("@")[0]);
+		freemarkerTemplate = FreemarkerTemplateRegistry.getTemplate(getTemplateClass(), getTemplateName());
 	}
 
 }
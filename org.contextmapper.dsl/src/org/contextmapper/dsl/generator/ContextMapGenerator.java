@@ -18,18 +18,21 @@ package org.contextmapper.dsl.generator;
 import static org.contextmapper.dsl.generator.contextmap.ContextMapFormat.DOT;
 import static org.contextmapper.dsl.generator.contextmap.ContextMapFormat.SVG;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
-import java.io.InputStream;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
 
 import org.contextmapper.contextmap.generator.model.ContextMap;
+import org.contextmapper.dsl.generator.contextmap.ContextMapFingerprint;
 import org.contextmapper.dsl.generator.contextmap.ContextMapFormat;
 import org.contextmapper.dsl.generator.contextmap.ContextMapModelConverter;
+import org.contextmapper.dsl.generator.contextmap.ContextMapRenderingService;
+import org.contextmapper.dsl.generator.contextmap.ContextMapRenderingService.RenderJob;
 import org.eclipse.emf.common.util.URI;
 import org.eclipse.xtext.generator.IFileSystemAccess2;
 
@@ -39,6 +42,8 @@ import guru.nidi.graphviz.service.SystemUtils;
 
 public class ContextMapGenerator extends AbstractContextMapGenerator {
 
+	private static final String MANIFEST_FILE_EXTENSION = ".manifest";
+
 	private Set<ContextMapFormat> formats;
 	private int labelSpacingFactor = 5;
 	private int width = -1;
@@ -46,6 +51,8 @@ public class ContextMapGenerator extends AbstractContextMapGenerator {
 	private boolean useWidth = true;
 	private boolean printAdditionalLabels = false;
 	private boolean clusterTeams = true;
+	private boolean incremental = false;
+	private ContextMapRenderingService renderingService = ContextMapRenderingService.getDefault();
 
 	public ContextMapGenerator() {
 		this.formats = new HashSet<>();
@@ -58,7 +65,45 @@ public class ContextMapGenerator extends AbstractContextMapGenerator {
 	protected void generateFromContextMap(org.contextmapper.dsl.contextMappingDSL.ContextMap cmlContextMap, IFileSystemAccess2 fsa, URI inputFileURI) {
 		String fileName = inputFileURI.trimFileExtension().lastSegment();
 
+		Set<ContextMapFormat> formatsToRender = new LinkedHashSet<>(formats);
+		String hash = null;
+		Map<String, String> manifest = null;
+		if (incremental) {
+			hash = createFingerprint(cmlContextMap).getHash();
+			manifest = readManifest(fsa, fileName);
+			for (ContextMapFormat format : formats) {
+				if (hash.equals(manifest.get(format.getFileExtension())) && fsa.isFile(getOutputFileName(fileName, format)))
+					formatsToRender.remove(format);
+			}
+			if (formatsToRender.isEmpty())
+				return;
+		} else if (fsa.isFile(getManifestFileName(fileName))) {
+			// the files are overwritten; a later incremental run has to render them again
+			fsa.deleteFile(getManifestFileName(fileName));
+		}
+
 		ContextMap contextMap = new ContextMapModelConverter().convert(cmlContextMap, printAdditionalLabels);
+		// all formats are rendered concurrently; the files are written in order
+		Map<ContextMapFormat, RenderJob> jobs = new LinkedHashMap<>();
+		try {
+			for (ContextMapFormat format : formatsToRender) {
+				jobs.put(format, renderingService.submit(createConfiguredContextMapGenerator(), contextMap, getGraphvizLibFormat(format)));
+			}
+			for (Map.Entry<ContextMapFormat, RenderJob> job : jobs.entrySet()) {
+				job.getValue().writeTo(fsa, getOutputFileName(fileName, job.getKey()));
+				if (incremental)
+					manifest.put(job.getKey().getFileExtension(), hash);
+			}
+		} finally {
+			jobs.values().forEach(RenderJob::cancel);
+			// also after a failure: the manifest has to describe the files that have
+			// been written
+			if (incremental)
+				writeManifest(fsa, fileName, manifest);
+		}
+	}
+
+	private org.contextmapper.contextmap.generator.ContextMapGenerator createConfiguredContextMapGenerator() {
 		org.contextmapper.contextmap.generator.ContextMapGenerator generator = createContextMapGenerator();
 		generator.setLabelSpacingFactor(labelSpacingFactor);
 		generator.clusterTeams(clusterTeams);
@@ -66,16 +111,46 @@ public class ContextMapGenerator extends AbstractContextMapGenerator {
 			generator.setWidth(width);
 		else if (this.height > 0)
 			generator.setHeight(height);
-		for (ContextMapFormat format : formats) {
-			try (ByteArrayOutputStream outputstream = new ByteArrayOutputStream()) {
-				generator.generateContextMapGraphic(contextMap, getGraphvizLibFormat(format), outputstream);
-				try (InputStream inputstream = new ByteArrayInputStream(outputstream.toByteArray())) {
-					fsa.generateFile(fileName + "_ContextMap." + format.getFileExtension(), inputstream);
-				}
-			} catch (IOException e) {
-				throw new RuntimeException("An error occured while generating the Context Map!", e);
-			}
+		return generator;
+	}
+
+	private ContextMapFingerprint createFingerprint(org.contextmapper.dsl.contextMappingDSL.ContextMap cmlContextMap) {
+		ContextMapFingerprint fingerprint = new ContextMapFingerprint(cmlContextMap, printAdditionalLabels);
+		fingerprint.withSetting("labelSpacingFactor", labelSpacingFactor).withSetting("clusterTeams", clusterTeams);
+		if (this.width > 0 && useWidth)
+			fingerprint.withSetting("width", width);
+		else if (this.height > 0)
+			fingerprint.withSetting("height", height);
+		return fingerprint;
+	}
+
+	private Map<String, String> readManifest(IFileSystemAccess2 fsa, String fileName) {
+		Map<String, String> manifest = new TreeMap<>();
+		String manifestFileName = getManifestFileName(fileName);
+		if (!fsa.isFile(manifestFileName))
+			return manifest;
+		for (String line : fsa.readTextFile(manifestFileName).toString().split("\\R")) {
+			int separatorIndex = line.indexOf('=');
+			if (separatorIndex > 0)
+				manifest.put(line.substring(0, separatorIndex).trim(), line.substring(separatorIndex + 1).trim());
 		}
+		return manifest;
+	}
+
+	private void writeManifest(IFileSystemAccess2 fsa, String fileName, Map<String, String> manifest) {
+		StringBuilder content = new StringBuilder();
+		for (Map.Entry<String, String> entry : manifest.entrySet()) {
+			content.append(entry.getKey()).append("=").append(entry.getValue()).append(System.lineSeparator());
+		}
+		fsa.generateFile(getManifestFileName(fileName), content);
+	}
+
+	private String getOutputFileName(String fileName, ContextMapFormat format) {
+		return fileName + "_ContextMap." + format.getFileExtension();
+	}
+
+	private String getManifestFileName(String fileName) {
+		return fileName + "_ContextMap" + MANIFEST_FILE_EXTENSION;
 	}
 
 	/**
@@ -152,6 +227,34 @@ public class ContextMapGenerator extends AbstractContextMapGenerator {
 		return clusterTeams;
 	}
 
+	/**
+	 * Enables/disables incremental generation. If enabled, the generator writes a
+	 * manifest with a content hash of the Context Map, the generator settings and
+	 * the renderer versions next to the generated files and only renders the
+	 * formats whose hash changed or whose file is missing. If disabled, an
+	 * existing manifest is deleted. Disabled by default.
+	 * 
+	 * @param incremental boolean that indicates whether unchanged Context Maps
+	 *                    shall be skipped
+	 */
+	public void setIncremental(boolean incremental) {
+		this.incremental = incremental;
+	}
+
+	public boolean isIncremental() {
+		return incremental;
+	}
+
+	/**
+	 * Changes the service that renders the Context Maps (by default, the service
+	 * shared by all generators is used).
+	 * 
+	 * @param renderingService the service to be used
+	 */
+	public void setRenderingService(ContextMapRenderingService renderingService) {
+		this.renderingService = renderingService;
+	}
+
 	private Format getGraphvizLibFormat(ContextMapFormat format) {
 		if (format == SVG)
 			return Format.SVG;
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.generator;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import freemarker.cache.ClassTemplateLoader;
+import freemarker.template.Configuration;
+import freemarker.template.Template;
+import freemarker.template.TemplateExceptionHandler;
+
+/**
+ * JVM-wide, thread-safe registry of the compiled Freemarker templates that are
+ * shipped on the classpath. Templates are loaded directly from the classpath
+ * (relative to the package of the given class) and parsed only once.
+ * 
+ * @author The Context Mapper Project Team
+ */
+public final class FreemarkerTemplateRegistry {
+
+	private static final Map<Class<?>, Configuration> CONFIGURATIONS = new ConcurrentHashMap<>();
+	private static final Map<TemplateKey, Template> TEMPLATES = new ConcurrentHashMap<>();
+	private static final AtomicLong HITS = new AtomicLong();
+	private static final AtomicLong MISSES = new AtomicLong();
+
+	private FreemarkerTemplateRegistry() {
+	}
+
+	/**
+	 * Returns the compiled template with the given name, located in the package of
+	 * the given class.
+	 * 
+	 * @throws RuntimeException if the template cannot be found or parsed
+	 */
+	public static Template getTemplate(Class<?> templateClass, String templateName) {
+		TemplateKey key = new TemplateKey(templateClass, templateName);
+		Template template = TEMPLATES.get(key);
+		if (template != null) {
+			HITS.incrementAndGet();
+			return template;
+		}
+		return TEMPLATES.computeIfAbsent(key, k -> {
+			MISSES.incrementAndGet();
+			return loadTemplate(templateClass, templateName);
+		});
+	}
+
+	public static long getHitCount() {
+		return HITS.get();
+	}
+
+	public static long getMissCount() {
+		return MISSES.get();
+	}
+
+	/**
+	 * Removes all compiled templates (and resets the metrics).
+	 */
+	public static void clear() {
+		TEMPLATES.clear();
+		CONFIGURATIONS.clear();
+		HITS.set(0);
+		MISSES.set(0);
+	}
+
+	private static Template loadTemplate(Class<?> templateClass, String templateName) {
+		try {
+			return CONFIGURATIONS.computeIfAbsent(templateClass, FreemarkerTemplateRegistry::createConfiguration).getTemplate(templateName);
+		} catch (Exception e) {
+			throw new RuntimeException("Cannot load freemarker template!", e);
+		}
+	}
+
+	private static Configuration createConfiguration(Class<?> templateClass) {
+		Configuration configuration = new Configuration(Configuration.VERSION_2_3_22);
+		configuration.setTemplateLoader(new ClassTemplateLoader(templateClass, ""));
+		configuration.setDefaultEncoding("UTF-8");
+		configuration.setTemplateExceptionHandler(TemplateExceptionHandler.RETHROW_HANDLER);
+		return configuration;
+	}
+
+	private static class TemplateKey {
+
+		private final Class<?> templateClass;
+		private final String templateName;
+
+		TemplateKey(Class<?> templateClass, String templateName) {
+			this.templateClass = templateClass;
+			this.templateName = templateName;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof TemplateKey))
+				return false;
+			TemplateKey other = (TemplateKey) obj;
+			return templateClass.equals(other.templateClass) && templateName.equals(other.templateName);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(templateClass, templateName);
+		}
+
+	}
+
+}
@@ -21,6 +21,7 @@ import java.util.Map;
 
 import org.contextmapper.dsl.contextMappingDSL.ContextMappingModel;
 import org.contextmapper.dsl.generator.exception.GeneratorInputException;
+import org.contextmapper.dsl.generator.freemarker.FreemarkerTemplateSession;
 import org.contextmapper.dsl.generator.freemarker.FreemarkerTextGenerator;
 import org.eclipse.emf.common.util.URI;
 import org.eclipse.xtext.generator.IFileSystemAccess2;
@@ -37,6 +38,7 @@ public class GenericContentGenerator extends AbstractContextMappingModelGenerato
 	private File freemarkerTemplateFile;
 	private String targetFileName;
 	private Map<String, Object> customDataMap = new HashMap<>();;
+	private FreemarkerTemplateSession templateSession;
 
 	public void setFreemarkerTemplateFile(File freemarkerTemplateFile) {
 		this.freemarkerTemplateFile = freemarkerTemplateFile;
@@ -59,7 +61,10 @@ public class GenericContentGenerator extends AbstractContextMappingModelGenerato
 		if (targetFileName == null || "".equals(targetFileName))
 			throw new GeneratorInputException("Please provide a name for the file that shall be generated.");
 
-		FreemarkerTextGenerator generator = new FreemarkerTextGenerator(freemarkerTemplateFile);
+		// reuse the compiled template if the generator is called for multiple models
+		if (templateSession == null || !templateSession.getTemplateFile().equals(freemarkerTemplateFile))
+			templateSession = new FreemarkerTemplateSession(freemarkerTemplateFile);
+		FreemarkerTextGenerator generator = new FreemarkerTextGenerator(templateSession);
 		for (Map.Entry<String, Object> customDataEntry : customDataMap.entrySet()) {
 			generator.registerCustomModelProperty(customDataEntry.getKey(), customDataEntry.getValue());
 		}
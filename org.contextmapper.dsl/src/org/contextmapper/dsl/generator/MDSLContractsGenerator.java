@@ -15,7 +15,12 @@
  */
 package org.contextmapper.dsl.generator;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+
 import org.contextmapper.dsl.contextMappingDSL.ContextMappingModel;
+import org.contextmapper.dsl.exception.ContextMapperApplicationException;
 import org.contextmapper.dsl.generator.mdsl.MDSLAPIDescriptionCreator;
 import org.contextmapper.dsl.generator.mdsl.MDSLModelCreator;
 import org.contextmapper.dsl.generator.mdsl.ProtectedRegionContext;
@@ -41,10 +46,16 @@ public class MDSLContractsGenerator extends AbstractContextMappingModelGenerator
 
 	private ProtectedRegionContext createProtectedRegionContext(String mdslFileName, IFileSystemAccess2 fsa) {
 		ProtectedRegionContextFactory factory = new ProtectedRegionContextFactory();
-		if (fsa.isFile(mdslFileName)) {
-			return factory.createProtectedRegionContextForExistingMDSLFile(fsa.readTextFile(mdslFileName).toString());
-		} else {
+		if (!fsa.isFile(mdslFileName))
 			return factory.createProtectedRegionContextForNewMDSLFile();
+		if (!(fsa instanceof StreamingFileSystemAccess))
+			return factory.createProtectedRegionContextForExistingMDSLFile(fsa.readTextFile(mdslFileName).toString());
+
+		// stream the existing file instead of reading it into a string first
+		try (Reader reader = ((StreamingFileSystemAccess) fsa).openFileReader(mdslFileName)) {
+			return factory.createProtectedRegionContextForExistingMDSLFile(reader);
+		} catch (IOException | UncheckedIOException e) {
+			throw new ContextMapperApplicationException("Could not read the protected regions of the existing MDSL file '" + mdslFileName + "'.", e);
 		}
 	}
 }
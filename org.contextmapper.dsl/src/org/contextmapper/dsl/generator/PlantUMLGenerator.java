@@ -15,8 +15,17 @@
  */
 package org.contextmapper.dsl.generator;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
 
 import org.contextmapper.dsl.cml.CMLModelDomainAndSubdomainResolver;
 import org.contextmapper.dsl.contextMappingDSL.Aggregate;
@@ -29,10 +38,12 @@ import org.contextmapper.dsl.contextMappingDSL.UseCase;
 import org.contextmapper.dsl.contextMappingDSL.UserRequirement;
 import org.contextmapper.dsl.contextMappingDSL.ValueElicitation;
 import org.contextmapper.dsl.contextMappingDSL.ValueRegister;
+import org.contextmapper.dsl.exception.ContextMapperApplicationException;
 import org.contextmapper.dsl.generator.exception.GeneratorInputException;
 import org.contextmapper.dsl.generator.plantuml.PlantUMLAggregateClassDiagramCreator;
 import org.contextmapper.dsl.generator.plantuml.PlantUMLBoundedContextClassDiagramCreator;
 import org.contextmapper.dsl.generator.plantuml.PlantUMLComponentDiagramCreator;
+import org.contextmapper.dsl.generator.plantuml.PlantUMLDiagramCreator;
 import org.contextmapper.dsl.generator.plantuml.PlantUMLModuleClassDiagramCreator;
 import org.contextmapper.dsl.generator.plantuml.PlantUMLStakeholderMapGenerator;
 import org.contextmapper.dsl.generator.plantuml.PlantUMLStateDiagramCreator4Aggregate;
@@ -44,16 +55,21 @@ import org.contextmapper.dsl.generator.plantuml.PlantUMLValueImpactMapGenerator;
 import org.contextmapper.tactic.dsl.tacticdsl.ServiceOperation;
 import org.contextmapper.tactic.dsl.tacticdsl.StateTransition;
 import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.xtext.EcoreUtil2;
 import org.eclipse.xtext.generator.IFileSystemAccess2;
 
 import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 
 public class PlantUMLGenerator extends AbstractContextMappingModelGenerator {
 
 	private static final String PLANT_UML_FILE_EXT = "puml";
 
 	private CMLModelDomainAndSubdomainResolver subdomainResolver;
+	private Executor executor;
+	private int maxDiagramsInFlight = 2 * Runtime.getRuntime().availableProcessors();
 
 	@Override
 	protected void generateFromContextMappingModel(ContextMappingModel model, IFileSystemAccess2 fsa,
@@ -62,112 +78,181 @@ public class PlantUMLGenerator extends AbstractContextMappingModelGenerator {
 		checkPreconditions();
 		String fileName = inputFileURI.trimFileExtension().lastSegment();
 
-		generateComponentDiagramIfContextMapAvailable(model, fsa, fileName);
-		generateClassAndStateDiagramsForBoundedContexts(model, fsa, fileName);
-		generateClassDiagramsForSubdomains(fsa, fileName);
-		generateUseCaseDiagram(model, fsa, fileName);
-		generateSequenceDiagramsForUseCases(model, fsa, fileName);
-		generateStakeholderDiagrams(model, fsa, fileName);
-		generateValueImpactMapsForValueRegisters(model, fsa, fileName);
+		List<DiagramJob<?>> jobs = Lists.newArrayList();
+		generateComponentDiagramIfContextMapAvailable(model, jobs, fileName);
+		generateClassAndStateDiagramsForBoundedContexts(model, jobs, fileName);
+		generateClassDiagramsForSubdomains(jobs, fileName);
+		generateUseCaseDiagram(model, jobs, fileName);
+		generateSequenceDiagramsForUseCases(model, jobs, fileName);
+		generateStakeholderDiagrams(model, jobs, fileName);
+		generateValueImpactMapsForValueRegisters(model, jobs, fileName);
+
+		if (executor == null)
+			jobs.forEach(job -> job.generate(fsa));
+		else
+			generateInParallel(jobs, fsa);
+	}
+
+	/**
+	 * Enables the parallel mode: the diagrams are created on the given executor;
+	 * the files are written by the calling thread, each as soon as its diagram is
+	 * completed (not necessarily in the order of the sequential mode). Set to null
+	 * (default) to create the diagrams sequentially.
+	 */
+	public void setExecutor(Executor executor) {
+		this.executor = executor;
 	}
 
-	private void generateStakeholderDiagrams(ContextMappingModel model, IFileSystemAccess2 fsa, String fileName) {
+	/**
+	 * Limits the number of diagrams that are created at the same time in the
+	 * parallel mode (by default, two per available processor). This is also the
+	 * maximum number of diagrams held in memory.
+	 */
+	public void setMaxDiagramsInFlight(int maxDiagramsInFlight) {
+		if (maxDiagramsInFlight < 1)
+			throw new IllegalArgumentException("At least one diagram must be allowed to be in flight.");
+		this.maxDiagramsInFlight = maxDiagramsInFlight;
+	}
+
+	private void generateStakeholderDiagrams(ContextMappingModel model, List<DiagramJob<?>> jobs, String fileName) {
 		int index = 1;
 		for (Stakeholders stakeholders : model.getStakeholders()) {
 			PlantUMLStakeholderMapGenerator stakeholderDiagramGenerator = new PlantUMLStakeholderMapGenerator();
-			fsa.generateFile(fileName + "_BC_"
+			addDiagram(jobs, fileName + "_BC_"
 					+ stakeholderDiagramGenerator.getStakeholderDiagramContextName(stakeholders.getContexts())
 							.replace(", ", "-").replace(" ", "-")
 					+ "_StakeholderMap-" + index++ + "." + PLANT_UML_FILE_EXT,
-					stakeholderDiagramGenerator.createDiagram(stakeholders));
+					stakeholderDiagramGenerator, stakeholders);
 		}
 	}
 
-	private void generateValueImpactMapsForValueRegisters(ContextMappingModel model, IFileSystemAccess2 fsa,
+	private void generateValueImpactMapsForValueRegisters(ContextMappingModel model, List<DiagramJob<?>> jobs,
 			String fileName) {
 		for (ValueRegister valueRegister : model.getValueRegisters()) {
 			if (!(valueRegister.getValueClusters().isEmpty() && valueRegister.getValues().isEmpty())
 					&& !EcoreUtil2.eAllOfType(valueRegister, ValueElicitation.class).isEmpty()) {
-				fsa.generateFile(
+				addDiagram(jobs,
 						fileName + "_ValueRegister_" + valueRegister.getName() + "_Value-Impact-Map" + "."
 								+ PLANT_UML_FILE_EXT,
-						new PlantUMLValueImpactMapGenerator().createDiagram(valueRegister));
+						new PlantUMLValueImpactMapGenerator(), valueRegister);
 			}
 		}
 	}
 
-	private void generateSequenceDiagramsForUseCases(ContextMappingModel model, IFileSystemAccess2 fsa,
+	private void generateSequenceDiagramsForUseCases(ContextMappingModel model, List<DiagramJob<?>> jobs,
 			String fileName) {
 		for (UserRequirement userRequirement : model.getUserRequirements()) {
 			if (userRequirement instanceof UseCase && !userRequirement.getFeatures().isEmpty()) {
-				fsa.generateFile(
+				addDiagram(jobs,
 						fileName + "_UseCase_" + userRequirement.getName() + "_Interactions." + PLANT_UML_FILE_EXT,
-						new PlantUMLUseCaseInteractionsSequenceDiagramCreator()
-								.createDiagram((UseCase) userRequirement));
+						new PlantUMLUseCaseInteractionsSequenceDiagramCreator(), (UseCase) userRequirement);
 			}
 		}
 	}
 
-	private void generateUseCaseDiagram(ContextMappingModel model, IFileSystemAccess2 fsa, String fileName) {
+	private void generateUseCaseDiagram(ContextMappingModel model, List<DiagramJob<?>> jobs, String fileName) {
 		if (!model.getUserRequirements().isEmpty())
-			fsa.generateFile(fileName + "_UseCases." + PLANT_UML_FILE_EXT,
-					new PlantUMLUseCaseDiagramCreator().createDiagram(model));
+			addDiagram(jobs, fileName + "_UseCases." + PLANT_UML_FILE_EXT, new PlantUMLUseCaseDiagramCreator(),
+					model);
 	}
 
-	private void generateClassDiagramsForSubdomains(IFileSystemAccess2 fsa, String fileName) {
+	private void generateClassDiagramsForSubdomains(List<DiagramJob<?>> jobs, String fileName) {
 		subdomainResolver.resolveAllSubdomains().stream().filter(subdomain -> !subdomain.getEntities().isEmpty())
 				.forEach(subdomain -> {
-					fsa.generateFile(fileName + "_SD_" + subdomain.getName() + "." + PLANT_UML_FILE_EXT,
+					addDiagram(jobs, fileName + "_SD_" + subdomain.getName() + "." + PLANT_UML_FILE_EXT,
 							new PlantUMLSubdomainClassDiagramCreator(
-									subdomainResolver.resolveDomain4Subdomain(subdomain.getName()).getName())
-									.createDiagram(subdomain));
+									subdomainResolver.resolveDomain4Subdomain(subdomain.getName()).getName()),
+							subdomain);
 				});
 	}
 
-	private void generateClassAndStateDiagramsForBoundedContexts(ContextMappingModel model, IFileSystemAccess2 fsa,
+	private void generateClassAndStateDiagramsForBoundedContexts(ContextMappingModel model, List<DiagramJob<?>> jobs,
 			String fileName) {
 		for (BoundedContext boundedContext : model.getBoundedContexts()) {
 
 			// class diagram for complete BC
-			fsa.generateFile(fileName + "_BC_" + boundedContext.getName() + "." + PLANT_UML_FILE_EXT,
-					new PlantUMLBoundedContextClassDiagramCreator().createDiagram(boundedContext));
+			addDiagram(jobs, fileName + "_BC_" + boundedContext.getName() + "." + PLANT_UML_FILE_EXT,
+					new PlantUMLBoundedContextClassDiagramCreator(), boundedContext);
 
 			// class diagram for aggregates
 			for (Aggregate aggregate : boundedContext.getAggregates()) {
-				fsa.generateFile(
+				addDiagram(jobs,
 						fileName + "_BC_" + boundedContext.getName() + "_" + aggregate.getName() + "."
 								+ PLANT_UML_FILE_EXT,
-						new PlantUMLAggregateClassDiagramCreator().createDiagram(aggregate));
+						new PlantUMLAggregateClassDiagramCreator(), aggregate);
 			}
 
 			// class diagram for modules
 			for (SculptorModule module : boundedContext.getModules()) {
-				fsa.generateFile(fileName + "_BC_" + boundedContext.getName() + "_" + module.getName() + "."
-						+ PLANT_UML_FILE_EXT, new PlantUMLModuleClassDiagramCreator().createDiagram(module));
+				addDiagram(jobs, fileName + "_BC_" + boundedContext.getName() + "_" + module.getName() + "."
+						+ PLANT_UML_FILE_EXT, new PlantUMLModuleClassDiagramCreator(), module);
 			}
 
 			// state diagram for aggregates
 			List<Aggregate> aggregatesWithStates = getAggregatesWithStatesAndTransitions(boundedContext);
 			for (Aggregate aggregate : aggregatesWithStates) {
-				fsa.generateFile(
+				addDiagram(jobs,
 						fileName + "_BC_" + boundedContext.getName() + "_" + aggregate.getName() + "_StateDiagram" + "."
 								+ PLANT_UML_FILE_EXT,
-						new PlantUMLStateDiagramCreator4Aggregate().createDiagram(aggregate));
+						new PlantUMLStateDiagramCreator4Aggregate(), aggregate);
 			}
 
 			// state diagram for flows
 			for (Flow flow : getFlowsWithStates(boundedContext)) {
-				fsa.generateFile(fileName + "_BC_" + boundedContext.getName() + "_" + flow.getName() + "_StateDiagram."
-						+ PLANT_UML_FILE_EXT, new PlantUMLStateDiagramCreator4Flow().createDiagram(flow));
+				addDiagram(jobs, fileName + "_BC_" + boundedContext.getName() + "_" + flow.getName() + "_StateDiagram."
+						+ PLANT_UML_FILE_EXT, new PlantUMLStateDiagramCreator4Flow(), flow);
 			}
 		}
 	}
 
-	private void generateComponentDiagramIfContextMapAvailable(ContextMappingModel model, IFileSystemAccess2 fsa,
+	private void generateComponentDiagramIfContextMapAvailable(ContextMappingModel model, List<DiagramJob<?>> jobs,
 			String fileName) {
 		if (model.getMap() != null)
-			fsa.generateFile(fileName + "_ContextMap." + PLANT_UML_FILE_EXT,
-					new PlantUMLComponentDiagramCreator().createDiagram(model.getMap()));
+			addDiagram(jobs, fileName + "_ContextMap." + PLANT_UML_FILE_EXT, new PlantUMLComponentDiagramCreator(),
+					model.getMap());
+	}
+
+	private void generateInParallel(List<DiagramJob<?>> jobs, IFileSystemAccess2 fsa) {
+		// the creators only read the model; resolve all proxies before the model is
+		// shared between threads
+		EcoreUtil.resolveAll(this.contextMappingModel);
+		CompletionService<String> completionService = new ExecutorCompletionService<>(executor);
+		Map<Future<String>, DiagramJob<?>> jobsInFlight = Maps.newHashMap();
+		int nextJob = 0;
+		try {
+			while (nextJob < jobs.size() || !jobsInFlight.isEmpty()) {
+				// at most maxDiagramsInFlight diagrams are created (and held in memory) at
+				// the same time
+				while (nextJob < jobs.size() && jobsInFlight.size() < maxDiagramsInFlight) {
+					DiagramJob<?> job = jobs.get(nextJob++);
+					jobsInFlight.put(completionService.submit(job::createDiagram), job);
+				}
+				// the file system access is only used by this thread
+				Future<String> completedDiagram = completionService.take();
+				DiagramJob<?> job = jobsInFlight.remove(completedDiagram);
+				fsa.generateFile(job.fileName, getDiagram(completedDiagram, job));
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new ContextMapperApplicationException("The creation of the PlantUML diagrams has been interrupted.", e);
+		} finally {
+			jobsInFlight.keySet().forEach(f -> f.cancel(false));
+		}
+	}
+
+	private String getDiagram(Future<String> completedDiagram, DiagramJob<?> job) throws InterruptedException {
+		try {
+			return completedDiagram.get();
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException)
+				throw (RuntimeException) e.getCause();
+			throw new ContextMapperApplicationException("Could not create the PlantUML diagram '" + job.fileName + "'.", e.getCause());
+		}
+	}
+
+	private <T extends EObject> void addDiagram(List<DiagramJob<?>> jobs, String diagramFileName, PlantUMLDiagramCreator<T> creator,
+			T modelObject) {
+		jobs.add(new DiagramJob<>(diagramFileName, creator, modelObject));
 	}
 
 	private void checkPreconditions() {
@@ -210,4 +295,38 @@ public class PlantUMLGenerator extends AbstractContextMappingModelGenerator {
 				.findAny().isPresent();
 	}
 
+	private static class DiagramJob<T extends EObject> {
+
+		private final String fileName;
+		private final PlantUMLDiagramCreator<T> creator;
+		private final T modelObject;
+
+		DiagramJob(String fileName, PlantUMLDiagramCreator<T> creator, T modelObject) {
+			this.fileName = fileName;
+			this.creator = creator;
+			this.modelObject = modelObject;
+		}
+
+		String createDiagram() {
+			return creator.createDiagram(modelObject);
+		}
+
+		/**
+		 * Streams the diagram into the file if the file system access supports it;
+		 * otherwise the diagram is created as a string first.
+		 */
+		void generate(IFileSystemAccess2 fsa) {
+			if (!(fsa instanceof StreamingFileSystemAccess)) {
+				fsa.generateFile(fileName, createDiagram());
+				return;
+			}
+			try (Writer writer = ((StreamingFileSystemAccess) fsa).openFileWriter(fileName)) {
+				creator.createDiagram(modelObject, writer);
+			} catch (IOException | UncheckedIOException e) {
+				throw new ContextMapperApplicationException("Could not write the PlantUML diagram '" + fileName + "'.", e);
+			}
+		}
+
+	}
+
 }
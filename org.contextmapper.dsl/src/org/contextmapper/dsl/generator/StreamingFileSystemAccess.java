@@ -0,0 +1,42 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.generator;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+
+/**
+ * File system access that allows generators to stream text into and out of a
+ * file instead of passing the complete file content as a string.
+ * 
+ * @author The Context Mapper Project Team
+ */
+public interface StreamingFileSystemAccess {
+
+	/**
+	 * Opens a writer for the given file (relative to the output directory). The
+	 * caller has to close the writer.
+	 */
+	Writer openFileWriter(String fileName) throws IOException;
+
+	/**
+	 * Opens a reader for the given existing file (relative to the output
+	 * directory). The caller has to close the reader.
+	 */
+	Reader openFileReader(String fileName) throws IOException;
+
+}
@@ -17,22 +17,19 @@ package org.contextmapper.dsl.generator;
 
 import java.io.IOException;
 
-import org.contextmapper.dsl.ContextMappingDSLStandaloneSetup;
 import org.contextmapper.dsl.contextMappingDSL.ContextMap;
+import org.contextmapper.dsl.standalone.ContextMapperStandaloneSetup;
 import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.xtext.generator.IFileSystemAccess2;
 import org.eclipse.xtext.resource.XtextResourceSet;
 
-import com.google.inject.Injector;
-
 public class XMIGenerator extends AbstractContextMapGenerator {
 
 	@Override
 	protected void generateFromContextMap(ContextMap contextmap, IFileSystemAccess2 fsa, URI inputFileURI) {
-		Injector injector = new ContextMappingDSLStandaloneSetup().createInjectorAndDoEMFRegistration();
-		XtextResourceSet resourceSet = injector.getInstance(XtextResourceSet.class);
+		XtextResourceSet resourceSet = ContextMapperStandaloneSetup.getInjector().getInstance(XtextResourceSet.class);
 
 		EcoreUtil.resolveAll(contextMappingModel);
 		Resource xmiResource = resourceSet.createResource(inputFileURI.trimFileExtension().appendFileExtension("xmi"));
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.generator.contextmap;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.CodeSource;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.TimeUnit;
+
+import org.contextmapper.dsl.contextMappingDSL.BoundedContext;
+import org.contextmapper.dsl.contextMappingDSL.BoundedContextType;
+import org.contextmapper.dsl.contextMappingDSL.ContextMap;
+import org.contextmapper.dsl.contextMappingDSL.CustomerSupplierRelationship;
+import org.contextmapper.dsl.contextMappingDSL.Relationship;
+import org.contextmapper.dsl.contextMappingDSL.SymmetricRelationship;
+import org.contextmapper.dsl.contextMappingDSL.UpstreamDownstreamRelationship;
+import org.contextmapper.dsl.exception.ContextMapperApplicationException;
+
+import guru.nidi.graphviz.engine.Graphviz;
+import guru.nidi.graphviz.service.SystemUtils;
+
+/**
+ * Creates a content hash of everything the {@link ContextMapModelConverter}
+ * takes from a CML Context Map (Bounded Contexts, relationships and team
+ * realizations), of additional generator settings and of the versions of the
+ * rendering libraries and Graphviz. Two maps with the same hash result in the
+ * same graphical Context Map.
+ * 
+ * @author The Context Mapper Project Team
+ */
+public class ContextMapFingerprint {
+
+	private static final long GRAPHVIZ_VERSION_TIMEOUT_SECONDS = 10;
+
+	private static volatile String rendererVersions;
+
+	private final StringBuilder content = new StringBuilder();
+
+	public ContextMapFingerprint(ContextMap cmlContextMap, boolean useNameAndImplementationTechnologyLabels) {
+		// a library or Graphviz upgrade can change the graphic of an unchanged map
+		append("renderer", getRendererVersions());
+		for (BoundedContext bc : cmlContextMap.getBoundedContexts()) {
+			append("bc", bc.getName(), bc.getType() == BoundedContextType.TEAM ? "TEAM" : "GENERIC");
+		}
+		for (Relationship relationship : cmlContextMap.getRelationships()) {
+			appendRelationship(relationship);
+			if (useNameAndImplementationTechnologyLabels)
+				append("labels", relationship.getName(), relationship.getImplementationTechnology());
+		}
+		for (BoundedContext bc : cmlContextMap.getBoundedContexts()) {
+			if (bc.getType() != BoundedContextType.TEAM)
+				continue;
+			for (BoundedContext realizedContext : bc.getRealizedBoundedContexts()) {
+				append("realizes", bc.getName(), getName(realizedContext));
+			}
+		}
+	}
+
+	/**
+	 * Adds a generator setting that influences the generated graphic.
+	 */
+	public ContextMapFingerprint withSetting(String name, Object value) {
+		append("setting", name, value);
+		return this;
+	}
+
+	/**
+	 * Returns the SHA-256 hash (hex) of the map content and the settings.
+	 */
+	public String getHash() {
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256").digest(content.toString().getBytes(StandardCharsets.UTF_8));
+			StringBuilder hash = new StringBuilder();
+			for (byte b : digest) {
+				hash.append(String.format("%02x", b));
+			}
+			return hash.toString();
+		} catch (NoSuchAlgorithmException e) {
+			throw new ContextMapperApplicationException("Could not hash the Context Map.", e);
+		}
+	}
+
+	private void appendRelationship(Relationship relationship) {
+		if (relationship instanceof SymmetricRelationship) {
+			SymmetricRelationship symmetricRelationship = (SymmetricRelationship) relationship;
+			append("rel", relationship.eClass().getName(), getName(symmetricRelationship.getParticipant1()), getName(symmetricRelationship.getParticipant2()));
+		} else if (relationship instanceof UpstreamDownstreamRelationship) {
+			UpstreamDownstreamRelationship upstreamDownstream = (UpstreamDownstreamRelationship) relationship;
+			append("rel", relationship instanceof CustomerSupplierRelationship ? "CustomerSupplier" : "UpstreamDownstream", getName(upstreamDownstream.getUpstream()),
+					getName(upstreamDownstream.getDownstream()), upstreamDownstream.getUpstreamRoles(), upstreamDownstream.getDownstreamRoles());
+		}
+	}
+
+	private static String getRendererVersions() {
+		if (rendererVersions == null)
+			rendererVersions = "context-map-generator " + getLibraryVersion(org.contextmapper.contextmap.generator.ContextMapGenerator.class) + ", graphviz-java "
+					+ getLibraryVersion(Graphviz.class) + ", " + getGraphvizVersion();
+		return rendererVersions;
+	}
+
+	/**
+	 * Returns the version from the manifest of the library containing the given
+	 * class, or the name of the library file (which usually contains the version).
+	 */
+	private static String getLibraryVersion(Class<?> type) {
+		Package typePackage = type.getPackage();
+		if (typePackage != null && typePackage.getImplementationVersion() != null)
+			return typePackage.getImplementationVersion();
+		CodeSource codeSource = type.getProtectionDomain().getCodeSource();
+		if (codeSource != null && codeSource.getLocation() != null)
+			return new File(codeSource.getLocation().getPath()).getName();
+		return "unknown";
+	}
+
+	/**
+	 * Returns the output of "dot -V" (the version of the installed Graphviz).
+	 */
+	private static String getGraphvizVersion() {
+		try {
+			Process process = new ProcessBuilder(SystemUtils.executableName("dot"), "-V").redirectErrorStream(true).start();
+			// the output is a single line; it does not fill the pipe before the process exits
+			if (!process.waitFor(GRAPHVIZ_VERSION_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+				process.destroyForcibly();
+				return "graphviz unknown";
+			}
+			try (InputStream output = process.getInputStream()) {
+				return new String(output.readAllBytes(), StandardCharsets.UTF_8).trim();
+			}
+		} catch (IOException e) {
+			return "graphviz not installed";
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return "graphviz unknown";
+		}
+	}
+
+	private String getName(BoundedContext bc) {
+		return bc == null ? null : bc.getName();
+	}
+
+	private void append(String kind, Object... values) {
+		content.append(kind);
+		for (Object value : values) {
+			// length prefix: values containing the separator cannot collide
+			String text = String.valueOf(value);
+			content.append('|').append(text.length()).append(':').append(text);
+		}
+		content.append('\n');
+	}
+
+}
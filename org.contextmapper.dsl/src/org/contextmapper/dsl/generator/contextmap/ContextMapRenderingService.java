@@ -0,0 +1,331 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.generator.contextmap;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.contextmapper.contextmap.generator.ContextMapGenerator;
+import org.contextmapper.contextmap.generator.model.ContextMap;
+import org.contextmapper.dsl.exception.ContextMapperApplicationException;
+import org.eclipse.xtext.generator.IFileSystemAccess2;
+import org.eclipse.xtext.util.RuntimeIOException;
+
+import guru.nidi.graphviz.engine.Format;
+
+/**
+ * Renders graphical Context Maps (Graphviz) on a bounded pool of worker
+ * threads.
+ * 
+ * A submitted job is rendered into a buffer as soon as a worker is available.
+ * The file is only written by {@link RenderJob#writeTo(IFileSystemAccess2, String)}
+ * once the graphic has been rendered completely; a failed or timed out job
+ * never touches an existing file. The timeout of a job starts when it is
+ * submitted, so that a caller does not wait for jobs that are stuck in the
+ * queue behind workers that do not react to interrupts. If the queue of the
+ * pool is full, a job is rendered on the calling thread instead.
+ * 
+ * The file system access is only used by the calling thread.
+ * 
+ * @author The Context Mapper Project Team
+ */
+public class ContextMapRenderingService {
+
+	private static final int DEFAULT_QUEUE_CAPACITY = 64;
+	private static final long DEFAULT_TIMEOUT_SECONDS = 120;
+	private static final String ERROR_MESSAGE = "An error occured while generating the Context Map!";
+
+	private static ContextMapRenderingService defaultService;
+
+	private final ThreadPoolExecutor executor;
+	private final ScheduledExecutorService watchdog;
+	private final long timeoutMillis;
+
+	private final AtomicLong completedJobs = new AtomicLong();
+	private final AtomicLong failedJobs = new AtomicLong();
+	private final AtomicLong timedOutJobs = new AtomicLong();
+	private final AtomicLong callerRenderedJobs = new AtomicLong();
+	private final AtomicLong totalRenderNanos = new AtomicLong();
+	private final AtomicLong maxRenderNanos = new AtomicLong();
+
+	public ContextMapRenderingService(int workers, int queueCapacity, long timeout, TimeUnit timeoutUnit) {
+		if (workers < 1 || queueCapacity < 1 || timeout < 1)
+			throw new IllegalArgumentException("The number of workers, the queue capacity and the timeout must be at least 1.");
+		this.executor = new ThreadPoolExecutor(workers, workers, 60, TimeUnit.SECONDS, new ArrayBlockingQueue<>(queueCapacity), new RendererThreadFactory("cml-contextmap-renderer"));
+		this.executor.allowCoreThreadTimeOut(true);
+		this.watchdog = Executors.newSingleThreadScheduledExecutor(new RendererThreadFactory("cml-contextmap-renderer-watchdog"));
+		this.timeoutMillis = timeoutUnit.toMillis(timeout);
+	}
+
+	/**
+	 * Returns the service shared by all Context Map generators (one worker per
+	 * processor, two minutes timeout per job).
+	 */
+	public static synchronized ContextMapRenderingService getDefault() {
+		if (defaultService == null)
+			defaultService = new ContextMapRenderingService(Runtime.getRuntime().availableProcessors(), DEFAULT_QUEUE_CAPACITY, DEFAULT_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+		return defaultService;
+	}
+
+	/**
+	 * Starts rendering the given Context Map. The generator must not be used by
+	 * other jobs concurrently.
+	 * 
+	 * @return the job; call {@link RenderJob#writeTo(IFileSystemAccess2, String)}
+	 *         to write the rendered graphic
+	 */
+	public RenderJob submit(ContextMapGenerator generator, ContextMap contextMap, Format format) {
+		RenderJob job = new RenderJob(generator, contextMap, format, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis));
+		// the future has to be known before the job starts; the timeout cancels it
+		FutureTask<RenderBuffer> future = new FutureTask<>(job::render);
+		job.future = future;
+		try {
+			job.timeout = watchdog.schedule(job::timeout, timeoutMillis, TimeUnit.MILLISECONDS);
+			executor.execute(future);
+		} catch (RejectedExecutionException e) {
+			job.cancel();
+			job.future = null;
+		}
+		return job;
+	}
+
+	/**
+	 * Returns the number of jobs waiting for a worker.
+	 */
+	public int getQueueDepth() {
+		return executor.getQueue().size();
+	}
+
+	public int getActiveJobs() {
+		return executor.getActiveCount();
+	}
+
+	public long getCompletedJobs() {
+		return completedJobs.get();
+	}
+
+	public long getFailedJobs() {
+		return failedJobs.get();
+	}
+
+	public long getTimedOutJobs() {
+		return timedOutJobs.get();
+	}
+
+	/**
+	 * Returns the number of jobs that have been rendered on the calling thread
+	 * because the queue was full.
+	 */
+	public long getCallerRenderedJobs() {
+		return callerRenderedJobs.get();
+	}
+
+	/**
+	 * Returns the accumulated time spent in Graphviz by all finished jobs.
+	 */
+	public long getTotalRenderTime(TimeUnit unit) {
+		return unit.convert(totalRenderNanos.get(), TimeUnit.NANOSECONDS);
+	}
+
+	public long getMaxRenderTime(TimeUnit unit) {
+		return unit.convert(maxRenderNanos.get(), TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Stops the workers; jobs that have not been started yet are cancelled and
+	 * jobs submitted afterwards are rendered on the calling thread.
+	 */
+	public void shutdown() {
+		for (Runnable queuedJob : executor.shutdownNow()) {
+			((Future<?>) queuedJob).cancel(false);
+		}
+		watchdog.shutdownNow();
+	}
+
+	private void recordRenderTime(long nanos) {
+		totalRenderNanos.addAndGet(nanos);
+		maxRenderNanos.accumulateAndGet(nanos, Math::max);
+	}
+
+	/**
+	 * A submitted rendering job.
+	 */
+	public class RenderJob {
+
+		private final ContextMapGenerator generator;
+		private final ContextMap contextMap;
+		private final Format format;
+		private final long deadline;
+		private volatile Future<RenderBuffer> future;
+		private volatile ScheduledFuture<?> timeout;
+		private volatile boolean timedOut;
+
+		private RenderJob(ContextMapGenerator generator, ContextMap contextMap, Format format, long deadline) {
+			this.generator = generator;
+			this.contextMap = contextMap;
+			this.format = format;
+			this.deadline = deadline;
+		}
+
+		/**
+		 * Writes the rendered graphic into the given file; blocks until the job has
+		 * finished, but not longer than the timeout of the job. The file is not
+		 * written if the job failed or timed out.
+		 */
+		public void writeTo(IFileSystemAccess2 fsa, String fileName) {
+			if (future == null) {
+				renderOnCallingThread(fsa, fileName);
+				return;
+			}
+			try (InputStream input = awaitResult().toInputStream()) {
+				fsa.generateFile(fileName, input);
+			} catch (IOException | RuntimeIOException e) {
+				throw new ContextMapperApplicationException(ERROR_MESSAGE, e);
+			} finally {
+				cancel();
+			}
+		}
+
+		/**
+		 * Cancels the job (if it has not finished yet). Has no effect on the result
+		 * of a finished job.
+		 */
+		public void cancel() {
+			if (timeout != null)
+				timeout.cancel(false);
+			if (future != null)
+				future.cancel(true);
+		}
+
+		private RenderBuffer render() throws Exception {
+			RenderBuffer buffer = new RenderBuffer();
+			long start = System.nanoTime();
+			try {
+				generator.generateContextMapGraphic(contextMap, format, buffer);
+				if (!timedOut)
+					completedJobs.incrementAndGet();
+				return buffer;
+			} catch (Exception e) {
+				if (!timedOut)
+					failedJobs.incrementAndGet();
+				throw e;
+			} finally {
+				timeout.cancel(false);
+				recordRenderTime(System.nanoTime() - start);
+			}
+		}
+
+		private void timeout() {
+			if (future.isDone())
+				return;
+			timedOut = true;
+			if (future.cancel(true))
+				timedOutJobs.incrementAndGet();
+			else
+				timedOut = false;
+		}
+
+		private RenderBuffer awaitResult() throws IOException {
+			try {
+				try {
+					return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+				} catch (TimeoutException e) {
+					// the job is still queued or its worker does not react to the watchdog
+					timeout();
+					return future.get();
+				}
+			} catch (CancellationException e) {
+				if (timedOut)
+					throw new IOException("Rendering the Context Map took longer than " + timeoutMillis + " ms.", e);
+				throw new IOException("Rendering the Context Map has been cancelled.", e);
+			} catch (ExecutionException e) {
+				throw new IOException(e.getCause().getMessage(), e.getCause());
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IOException("Interrupted while waiting for the Context Map to be rendered.", e);
+			}
+		}
+
+		private void renderOnCallingThread(IFileSystemAccess2 fsa, String fileName) {
+			callerRenderedJobs.incrementAndGet();
+			RenderBuffer buffer = new RenderBuffer();
+			long start = System.nanoTime();
+			try {
+				generator.generateContextMapGraphic(contextMap, format, buffer);
+			} catch (Exception e) {
+				failedJobs.incrementAndGet();
+				throw new ContextMapperApplicationException(ERROR_MESSAGE, e);
+			} finally {
+				recordRenderTime(System.nanoTime() - start);
+			}
+			try (InputStream input = buffer.toInputStream()) {
+				fsa.generateFile(fileName, input);
+				completedJobs.incrementAndGet();
+			} catch (IOException | RuntimeIOException e) {
+				failedJobs.incrementAndGet();
+				throw new ContextMapperApplicationException(ERROR_MESSAGE, e);
+			}
+		}
+
+	}
+
+	/**
+	 * Buffer for a rendered graphic that can be read without copying it.
+	 */
+	private static class RenderBuffer extends ByteArrayOutputStream {
+
+		synchronized InputStream toInputStream() {
+			return new ByteArrayInputStream(buf, 0, count);
+		}
+
+	}
+
+	private static class RendererThreadFactory implements ThreadFactory {
+
+		private final String namePrefix;
+		private final AtomicInteger threadNumber = new AtomicInteger();
+
+		RendererThreadFactory(String namePrefix) {
+			this.namePrefix = namePrefix;
+		}
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			Thread thread = new Thread(runnable, namePrefix + "-" + threadNumber.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		}
+
+	}
+
+}
@@ -15,10 +15,14 @@
  */
 package org.contextmapper.dsl.generator.mdsl;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Deque;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.contextmapper.dsl.generator.mdsl.model.DataType;
 import org.contextmapper.dsl.generator.mdsl.model.DataTypeAttribute;
@@ -33,11 +37,13 @@ import org.contextmapper.tactic.dsl.tacticdsl.Enum;
 import org.contextmapper.tactic.dsl.tacticdsl.EnumValue;
 import org.contextmapper.tactic.dsl.tacticdsl.Parameter;
 import org.contextmapper.tactic.dsl.tacticdsl.Reference;
+import org.contextmapper.tactic.dsl.tacticdsl.SimpleDomainObject;
 import org.contextmapper.tactic.dsl.tacticdsl.TacticdslFactory;
 import org.contextmapper.tactic.dsl.tacticdsl.ValueObject;
 
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
 
 public class MDSLDataTypeCreator {
 
@@ -45,10 +51,12 @@ public class MDSLDataTypeCreator {
 	private static final String PARAMETER_NAME_EXTENSION = "Parameter";
 
 	private Map<String, DataType> dataTypeMapping;
+	private Map<SimpleDomainObject, DataType> domainObjectMapping;
 	private MDSLNameEncoder mdslNameEncoder;
 
 	public MDSLDataTypeCreator() {
 		dataTypeMapping = Maps.newTreeMap();
+		domainObjectMapping = Maps.newHashMap();
 		mdslNameEncoder = new MDSLNameEncoder();
 	}
 
@@ -78,6 +86,30 @@ public class MDSLDataTypeCreator {
 		return this.dataTypeMapping.values();
 	}
 
+	/**
+	 * Returns the data types that are used by the given (payload) types, directly
+	 * or transitively via attributes; in the same order as
+	 * {@link #getAllDataTypes()}.
+	 */
+	public List<DataType> getReachableDataTypes(Collection<DataType> usedTypes) {
+		Set<String> reachableTypeNames = Sets.newHashSet();
+		Deque<String> typeNamesToVisit = new ArrayDeque<>();
+		for (DataType usedType : usedTypes) {
+			if (usedType != null && !usedType.isPrimitiveType())
+				typeNamesToVisit.add(usedType.getName());
+		}
+		while (!typeNamesToVisit.isEmpty()) {
+			String typeName = typeNamesToVisit.poll();
+			DataType dataType = dataTypeMapping.get(typeName);
+			if (dataType == null || !reachableTypeNames.add(typeName) || dataType.isEnumType())
+				continue;
+			for (DataTypeAttribute attribute : dataType.getAttributes()) {
+				typeNamesToVisit.add(attribute.getType());
+			}
+		}
+		return dataTypeMapping.entrySet().stream().filter(e -> reachableTypeNames.contains(e.getKey())).map(Map.Entry::getValue).collect(Collectors.toList());
+	}
+
 	private DataType createPrimitiveDataType(String primitiveTypeName) {
 		DataType primitiveDataType = new DataType();
 		primitiveDataType.setIsPrimitiveType(true);
@@ -90,9 +122,16 @@ public class MDSLDataTypeCreator {
 		if (dataTypeMapping.containsKey(complexTypeName) && !(dataTypeMapping.get(complexTypeName).isAbstractDataType()))
 			return dataTypeMapping.get(complexTypeName);
 
+		// domain objects without attributes are converted only once as well
+		DataType convertedDomainObject = type.getDomainObjectType() != null ? domainObjectMapping.get(type.getDomainObjectType()) : null;
+		if (convertedDomainObject != null && convertedDomainObject == dataTypeMapping.get(complexTypeName))
+			return convertedDomainObject;
+
 		DataType dataType = new DataType();
 		dataType.setName(complexTypeName);
 		dataTypeMapping.put(complexTypeName, dataType);
+		if (type.getDomainObjectType() != null)
+			domainObjectMapping.put(type.getDomainObjectType(), dataType);
 
 		// add attributes if available
 		if (type.getDomainObjectType() != null && type.getDomainObjectType() instanceof Enum) {
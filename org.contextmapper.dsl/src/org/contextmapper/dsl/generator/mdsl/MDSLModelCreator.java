@@ -17,14 +17,11 @@ package org.contextmapper.dsl.generator.mdsl;
 
 import java.security.InvalidParameterException;
 import java.util.List;
-import java.util.Map;
-import java.util.Optional;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
 import org.contextmapper.dsl.contextMappingDSL.Aggregate;
 import org.contextmapper.dsl.contextMappingDSL.Application;
-import org.contextmapper.dsl.contextMappingDSL.BoundedContext;
 import org.contextmapper.dsl.contextMappingDSL.CommandInvokationStep;
 import org.contextmapper.dsl.contextMappingDSL.ConcurrentCommandInvokation;
 import org.contextmapper.dsl.contextMappingDSL.ContextMappingModel;
@@ -41,12 +38,12 @@ import org.contextmapper.dsl.contextMappingDSL.InclusiveAlternativeEventProducti
 import org.contextmapper.dsl.contextMappingDSL.MultipleEventProduction;
 import org.contextmapper.dsl.contextMappingDSL.SingleCommandInvokation;
 import org.contextmapper.dsl.contextMappingDSL.SingleEventProduction;
-import org.contextmapper.dsl.contextMappingDSL.UpstreamDownstreamRelationship;
 import org.contextmapper.dsl.contextMappingDSL.UpstreamRole;
 import org.contextmapper.dsl.generator.exception.GeneratorInputException;
 import org.contextmapper.dsl.generator.exception.InputNotYetSupportedException;
 import org.contextmapper.dsl.generator.mdsl.generatorcontext.DownstreamContext;
 import org.contextmapper.dsl.generator.mdsl.generatorcontext.UpstreamAPIContext;
+import org.contextmapper.dsl.generator.mdsl.generatorcontext.UpstreamAPIIndex;
 import org.contextmapper.dsl.generator.mdsl.model.APIUsageContext;
 import org.contextmapper.dsl.generator.mdsl.model.DataType;
 import org.contextmapper.dsl.generator.mdsl.model.EndpointClient;
@@ -60,7 +57,6 @@ import org.contextmapper.tactic.dsl.tacticdsl.CollectionType;
 import org.contextmapper.tactic.dsl.tacticdsl.CommandEvent;
 import org.contextmapper.tactic.dsl.tacticdsl.ComplexType;
 import org.contextmapper.tactic.dsl.tacticdsl.DomainEvent;
-import org.contextmapper.tactic.dsl.tacticdsl.DomainObject;
 import org.contextmapper.tactic.dsl.tacticdsl.DomainObjectOperation;
 import org.contextmapper.tactic.dsl.tacticdsl.Parameter;
 import org.contextmapper.tactic.dsl.tacticdsl.ServiceOperation;
@@ -70,11 +66,9 @@ import org.contextmapper.tactic.dsl.tacticdsl.Visibility;
 import org.eclipse.emf.common.util.EList;
 
 import com.google.common.collect.Lists;
-import com.google.common.collect.Maps;
 
 public class MDSLModelCreator {
 
-	private static final String API_NAME_EXTENSION = "API";
 	private static final String PROVIDER_NAME_EXTENSION = "Provider";
 	private static final String CLIENT_NAME_EXTENSION = "Client";
 	private static final String MDSL_VOID_RETURN_TYPE = "D<void>";
@@ -86,6 +80,7 @@ public class MDSLModelCreator {
 	private int initialPort = 8000;
 	private MDSLDataTypeCreator dataTypeCreator;
 	private MDSLNameEncoder mdslEncoder;
+	private UpstreamAPIIndex upstreamAPIIndex;
 
 	public MDSLModelCreator(ContextMappingModel model) {
 		this.model = model;
@@ -94,12 +89,11 @@ public class MDSLModelCreator {
 	}
 
 	public List<ServiceSpecification> createServiceSpecifications() {
+		upstreamAPIIndex = new UpstreamAPIIndex(model, mdslEncoder);
 		checkPreconditions();
 
 		List<ServiceSpecification> specs = Lists.newArrayList();
-		Map<String, UpstreamAPIContext> upstreamContexts = collectUpstreamContexts();
-		for (String apiName : upstreamContexts.keySet()) {
-			UpstreamAPIContext context = upstreamContexts.get(apiName);
+		for (UpstreamAPIContext context : upstreamAPIIndex.getUpstreamContexts()) {
 			specs.add(createServiceSpecification(context.getApiName(), context));
 		}
 
@@ -155,7 +149,8 @@ public class MDSLModelCreator {
 		for (Aggregate aggregate : context.getExposedAggregates()) {
 			specification.addEndpoint(createEndpoint(aggregate, specification));
 		}
-		for (DataType dataType : dataTypeCreator.getAllDataTypes()) {
+		// the data types are shared by all specifications; only add the ones this API uses
+		for (DataType dataType : dataTypeCreator.getReachableDataTypes(getPayloadTypes(specification.getEndpoints()))) {
 			specification.addDataType(dataType);
 		}
 		specification.addProvider(createProvider(context, specification.getEndpoints()));
@@ -165,6 +160,17 @@ public class MDSLModelCreator {
 		return specification;
 	}
 
+	private List<DataType> getPayloadTypes(List<EndpointContract> endpoints) {
+		List<DataType> payloadTypes = Lists.newArrayList();
+		for (EndpointContract endpoint : endpoints) {
+			for (EndpointOperation operation : endpoint.getOperations()) {
+				payloadTypes.add(operation.getExpectingPayload());
+				payloadTypes.add(operation.getDeliveringPayload());
+			}
+		}
+		return payloadTypes;
+	}
+
 	private void mapFlowStep(OrchestrationFlow mdslFlow, FlowStep step) {
 		if(step.getClass() == org.contextmapper.dsl.contextMappingDSL.impl.CommandInvokationStepImpl.class) {
 			CommandInvokationStep cis = (CommandInvokationStep) step;
@@ -279,18 +285,11 @@ public class MDSLModelCreator {
 		EndpointContract endpoint = new EndpointContract();
 		String endpointName = mdslEncoder.encodeName(aggregate.getName());
 		endpoint.setName(endpointName);
-		Optional<DomainObject> aggregateRoot = aggregate.getDomainObjects().stream().filter(o -> o instanceof DomainObject).map(o -> (DomainObject) o)
-				.filter(o -> o.isAggregateRoot()).findFirst();
-		if (aggregateRoot.isPresent()) {
-			for (DomainObjectOperation operation : aggregateRoot.get().getOperations()) {
-				if (operation.getVisibility().equals(Visibility.PUBLIC))
-					endpoint.addOperation(createOperation(operation, specification));
-			}
+		for (DomainObjectOperation operation : upstreamAPIIndex.getPublicAggregateRootOperations(aggregate)) {
+			endpoint.addOperation(createOperation(operation, specification));
 		}
-		List<ServiceOperation> serviceOperations = aggregate.getServices().stream().flatMap(s -> s.getOperations().stream()).collect(Collectors.toList());
-		for (ServiceOperation serviceOperation : serviceOperations) {
-			if (serviceOperation.getVisibility().equals(Visibility.PUBLIC))
-				endpoint.addOperation(createOperation(serviceOperation, specification));
+		for (ServiceOperation serviceOperation : upstreamAPIIndex.getPublicServiceOperations(aggregate)) {
+			endpoint.addOperation(createOperation(serviceOperation, specification));
 		}
 		setEndpointServesAsString(endpoint, aggregate.getDoc());
 		return endpoint;
@@ -424,59 +423,10 @@ public class MDSLModelCreator {
 		return client;
 	}
 
-	private Map<String, UpstreamAPIContext> collectUpstreamContexts() {
-		Map<String, UpstreamAPIContext> upstreamContextMap = Maps.newHashMap();
-		List<UpstreamDownstreamRelationship> upstreamDownstreamRelationships = Lists.newLinkedList();
-		if (model.getMap() != null)
-			upstreamDownstreamRelationships = model.getMap().getRelationships().stream().filter(rel -> rel instanceof UpstreamDownstreamRelationship)
-					.map(rel -> (UpstreamDownstreamRelationship) rel).collect(Collectors.toList());
-		for (UpstreamDownstreamRelationship relationship : upstreamDownstreamRelationships) {
-			if (relationship.getUpstreamExposedAggregates().isEmpty())
-				continue;
-
-			String upstreamAPIName = relationship.getUpstream().getName() + API_NAME_EXTENSION;
-			UpstreamAPIContext context = null;
-			if (upstreamContextMap.containsKey(upstreamAPIName)) {
-				context = upstreamContextMap.get(upstreamAPIName);
-			} else {
-				context = new UpstreamAPIContext();
-				context.setApiName(mdslEncoder.encodeName(upstreamAPIName));
-				context.setUpstreamContext(relationship.getUpstream());
-				upstreamContextMap.put(upstreamAPIName, context);
-			}
-			context.getUpstreamRoles().addAll(relationship.getUpstreamRoles());
-			for (Aggregate exposedAggregate : relationship.getUpstreamExposedAggregates()) {
-				if (!context.getExposedAggregates().stream().map(agg -> agg.getName()).collect(Collectors.toList()).contains(exposedAggregate.getName()))
-					context.getExposedAggregates().add(exposedAggregate);
-			}
-			if (relationship.getUpstream().getApplication() != null)
-				context.setApplicationLayer(relationship.getUpstream().getApplication());
-			context.addDownstreamContext4Relationship(relationship);
-			if (relationship.getImplementationTechnology() != null && !"".equals(relationship.getImplementationTechnology()))
-				context.getImplementationTechnologies().add(relationship.getImplementationTechnology());
-		}
-		// add all contexts that are not upstream in an upstream-downstream relationship
-		for (BoundedContext bc : model.getBoundedContexts()) {
-			String apiName = bc.getName() + API_NAME_EXTENSION;
-			if (upstreamContextMap.containsKey(apiName) || (bc.getAggregates().isEmpty() && bc.getApplication() == null))
-				continue;
-
-			UpstreamAPIContext context = new UpstreamAPIContext();
-			context.setApiName(apiName);
-			context.setUpstreamContext(bc);
-			context.getExposedAggregates().addAll(bc.getAggregates());
-			context.setApplicationLayer(bc.getApplication());
-			upstreamContextMap.put(apiName, context);
-		}
-		return upstreamContextMap;
-	}
-
 	private void checkPreconditions() {
-		Map<String, UpstreamAPIContext> upstreamContexts = collectUpstreamContexts();
-
 		List<Aggregate> exposedAggregates = Lists.newArrayList();
 		List<Application> applications = Lists.newArrayList();
-		for (UpstreamAPIContext context : upstreamContexts.values()) {
+		for (UpstreamAPIContext context : upstreamAPIIndex.getUpstreamContexts()) {
 			exposedAggregates.addAll(context.getExposedAggregates());
 			if (context.getApplicationLayer() != null)
 				applications.add(context.getApplicationLayer());
@@ -488,14 +438,7 @@ public class MDSLModelCreator {
 
 		boolean atLeastOneAggregateWithAnOperation = false;
 		for (Aggregate exposedAggregate : exposedAggregates) {
-			Optional<DomainObject> aggregateRoot = exposedAggregate.getDomainObjects().stream().filter(o -> o instanceof DomainObject).map(o -> (DomainObject) o)
-					.filter(o -> o.isAggregateRoot()).findFirst();
-			if (aggregateRoot.isPresent() && !aggregateRoot.get().getOperations().isEmpty()) {
-				atLeastOneAggregateWithAnOperation = true;
-				break;
-			}
-			List<ServiceOperation> serviceOperations = exposedAggregate.getServices().stream().flatMap(s -> s.getOperations().stream()).collect(Collectors.toList());
-			if (!serviceOperations.isEmpty()) {
+			if (upstreamAPIIndex.hasOperations(exposedAggregate)) {
 				atLeastOneAggregateWithAnOperation = true;
 				break;
 			}
@@ -505,8 +448,7 @@ public class MDSLModelCreator {
 				atLeastOneAggregateWithAnOperation = true;
 				break;
 			}
-			List<ServiceOperation> serviceOperations = application.getServices().stream().flatMap(s -> s.getOperations().stream()).collect(Collectors.toList());
-			if (!serviceOperations.isEmpty()) {
+			if (application.getServices().stream().anyMatch(s -> !s.getOperations().isEmpty())) {
 				atLeastOneAggregateWithAnOperation = true;
 				break;
 			}
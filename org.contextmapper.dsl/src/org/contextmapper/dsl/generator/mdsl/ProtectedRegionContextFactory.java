@@ -15,6 +15,12 @@
  */
 package org.contextmapper.dsl.generator.mdsl;
 
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.Map;
+
+import org.contextmapper.dsl.generator.mdsl.ProtectedRegionReader.ProtectedRegion;
+
 public class ProtectedRegionContextFactory {
 
 	public ProtectedRegionContext createProtectedRegionContextForNewMDSLFile() {
@@ -27,30 +33,37 @@ public class ProtectedRegionContextFactory {
 	}
 
 	public ProtectedRegionContext createProtectedRegionContextForExistingMDSLFile(String fileContent) {
-		ProtectedRegionContext context = new ProtectedRegionContext();
-		ProtectedRegionReader reader = new ProtectedRegionReader();
+		return createProtectedRegionContextForExistingMDSLFile(new StringReader(fileContent));
+	}
 
-		String protectedSectionDataTypes = reader.getProtectedRegionContent(fileContent, ProtectedRegionIdentifier.DATA_TYPE_REGION);
-		String protectedSectionEndpoints = reader.getProtectedRegionContent(fileContent, ProtectedRegionIdentifier.ENDPOINT_REGION);
-		String protectedSectionProviders = reader.getProtectedRegionContent(fileContent, ProtectedRegionIdentifier.PROVIDER_REGION);
-		String protectedSectionClient = reader.getProtectedRegionContent(fileContent, ProtectedRegionIdentifier.CLIENT_REGION);
+	public ProtectedRegionContext createProtectedRegionContextForExistingMDSLFile(Reader fileContent) {
+		ProtectedRegionContext context = new ProtectedRegionContext();
+		Map<ProtectedRegionIdentifier, ProtectedRegion> regions = new ProtectedRegionReader().readProtectedRegions(fileContent);
 
-		context.setProtectedDataTypeRegion(protectedSectionDataTypes);
-		context.setProtectedEndpointRegion(protectedSectionEndpoints);
-		context.setProtectedProviderRegion(protectedSectionProviders);
-		context.setProtectedClientRegion(protectedSectionClient);
+		ProtectedRegion protectedSectionDataTypes = regions.get(ProtectedRegionIdentifier.DATA_TYPE_REGION);
+		ProtectedRegion protectedSectionEndpoints = regions.get(ProtectedRegionIdentifier.ENDPOINT_REGION);
+		ProtectedRegion protectedSectionProviders = regions.get(ProtectedRegionIdentifier.PROVIDER_REGION);
+		ProtectedRegion protectedSectionClient = regions.get(ProtectedRegionIdentifier.CLIENT_REGION);
 
-		if (protectedSectionDataTypes != null)
-			context.addDataTypeIdentifiers(reader.getIdentifiersInProtectedRegion(protectedSectionDataTypes, ProtectedRegionIdentifier.DATA_TYPE_REGION));
+		if (protectedSectionDataTypes != null) {
+			context.setProtectedDataTypeRegion(protectedSectionDataTypes.getContent());
+			context.addDataTypeIdentifiers(protectedSectionDataTypes.getIdentifiers());
+		}
 
-		if (protectedSectionEndpoints != null)
-			context.addEndpointIdentifiers(reader.getIdentifiersInProtectedRegion(protectedSectionEndpoints, ProtectedRegionIdentifier.ENDPOINT_REGION));
+		if (protectedSectionEndpoints != null) {
+			context.setProtectedEndpointRegion(protectedSectionEndpoints.getContent());
+			context.addEndpointIdentifiers(protectedSectionEndpoints.getIdentifiers());
+		}
 
-		if (protectedSectionProviders != null)
-			context.addProviderIdentifiers(reader.getIdentifiersInProtectedRegion(protectedSectionProviders, ProtectedRegionIdentifier.PROVIDER_REGION));
+		if (protectedSectionProviders != null) {
+			context.setProtectedProviderRegion(protectedSectionProviders.getContent());
+			context.addProviderIdentifiers(protectedSectionProviders.getIdentifiers());
+		}
 
-		if (protectedSectionClient != null)
-			context.addClientIdentifiers(reader.getIdentifiersInProtectedRegion(protectedSectionClient, ProtectedRegionIdentifier.CLIENT_REGION));
+		if (protectedSectionClient != null) {
+			context.setProtectedClientRegion(protectedSectionClient.getContent());
+			context.addClientIdentifiers(protectedSectionClient.getIdentifiers());
+		}
 
 		return context;
 	}
@@ -15,54 +15,135 @@
  */
 package org.contextmapper.dsl.generator.mdsl;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import org.contextmapper.dsl.generator.exception.GeneratorInputException;
+
 import com.google.common.collect.Sets;
 
 /**
  * Reads protected regions from existing MDSL file
  * 
+ * The regions and the identifiers within them are collected in a single pass
+ * over the lines of the file; all patterns are compiled once.
+ * 
  * @author Stefan Kapferer
  * 
  */
 public class ProtectedRegionReader {
 
+	private static final String REGION_START = "// ** BEGIN PROTECTED REGION for ";
+	private static final String REGION_END = "// ** END PROTECTED REGION for ";
+	private static final Pattern REGION_MARKER_PATTERN = Pattern.compile("// \\*\\* (BEGIN|END) PROTECTED REGION for (.*?)\\s*$");
+	private static final Map<ProtectedRegionIdentifier, Pattern> IDENTIFIER_PATTERNS = createIdentifierPatterns();
+
+	/**
+	 * Reads all protected regions of the given MDSL input. The reader is consumed
+	 * but not closed.
+	 * 
+	 * @return the protected regions by their identifier; regions that do not
+	 *         exist are not contained in the map
+	 * @throws GeneratorInputException if a region is not terminated (another
+	 *                                 region begins or the input ends before its
+	 *                                 end marker); the content of such a region
+	 *                                 cannot be preserved safely
+	 */
+	public Map<ProtectedRegionIdentifier, ProtectedRegion> readProtectedRegions(Reader mdslInput) {
+		Map<ProtectedRegionIdentifier, ProtectedRegion> regions = new EnumMap<>(ProtectedRegionIdentifier.class);
+		BufferedReader reader = mdslInput instanceof BufferedReader ? (BufferedReader) mdslInput : new BufferedReader(mdslInput);
+		ProtectedRegionIdentifier currentRegionIdentifier = null;
+		ProtectedRegion currentRegion = null;
+		try {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				ProtectedRegionIdentifier markerRegionIdentifier = null;
+				boolean isStartMarker = false;
+				if (line.contains(REGION_START) || line.contains(REGION_END)) {
+					Matcher matcher = REGION_MARKER_PATTERN.matcher(line);
+					if (matcher.find()) {
+						markerRegionIdentifier = getRegionIdentifier(matcher.group(2));
+						isStartMarker = "BEGIN".equals(matcher.group(1));
+					}
+				}
+
+				if (currentRegion == null) {
+					if (isStartMarker && markerRegionIdentifier != null && !regions.containsKey(markerRegionIdentifier)) {
+						currentRegionIdentifier = markerRegionIdentifier;
+						currentRegion = new ProtectedRegion();
+					}
+				} else if (isStartMarker && markerRegionIdentifier != null) {
+					throw createNotTerminatedException(currentRegionIdentifier);
+				} else if (markerRegionIdentifier == currentRegionIdentifier) {
+					regions.put(currentRegionIdentifier, currentRegion);
+					currentRegion = null;
+				} else {
+					currentRegion.addLine(line, IDENTIFIER_PATTERNS.get(currentRegionIdentifier));
+				}
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException("Could not read the protected regions of the MDSL file.", e);
+		}
+		if (currentRegion != null)
+			throw createNotTerminatedException(currentRegionIdentifier);
+		return regions;
+	}
+
 	public String getProtectedRegionContent(String mdslInput, ProtectedRegionIdentifier regionIdentifier) {
-		String regionStartString = getRegionStartString(regionIdentifier);
-		if (containsProtectedRegion(mdslInput, regionIdentifier))
-			return mdslInput.substring(mdslInput.indexOf(regionStartString) + regionStartString.length() + System.lineSeparator().length(),
-					mdslInput.lastIndexOf(getRegionEndString(regionIdentifier)) - System.lineSeparator().length());
-		return null;
+		ProtectedRegion region = readProtectedRegions(new StringReader(mdslInput)).get(regionIdentifier);
+		return region != null ? region.getContent() : null;
 	}
 
 	public boolean containsProtectedRegion(String mdslInput, ProtectedRegionIdentifier regionIdentifier) {
-		String regionStartString = getRegionStartString(regionIdentifier);
-		return mdslInput.indexOf(regionStartString) > -1;
+		return readProtectedRegions(new StringReader(mdslInput)).containsKey(regionIdentifier);
 	}
 
 	public Set<String> getIdentifiersInProtectedRegion(String protectedRegion, ProtectedRegionIdentifier regionIdentifier) {
 		Set<String> ids = Sets.newHashSet();
+		Matcher matcher = IDENTIFIER_PATTERNS.get(regionIdentifier).matcher("");
 		for (String line : protectedRegion.split("\\r?\\n")) {
-			Pattern pattern = Pattern.compile("^[^\\/]?" + getIdentifierKeyWord(regionIdentifier) + " ([\\^]?[a-zA-Z_]{1}[a-zA-Z0-9_]*).*$");
-			Matcher matcher = pattern.matcher(line);
-			while (matcher.find()) {
-				ids.add(matcher.group(1));
-			}
+			addIdentifier(matcher.reset(line), ids);
 		}
 		return ids;
 	}
 
-	private String getRegionStartString(ProtectedRegionIdentifier regionIdentifier) {
-		return "// ** BEGIN PROTECTED REGION for " + regionIdentifier.toString();
+	private static void addIdentifier(Matcher matcher, Set<String> ids) {
+		while (matcher.find()) {
+			ids.add(matcher.group(1));
+		}
 	}
 
-	private String getRegionEndString(ProtectedRegionIdentifier regionIdentifier) {
-		return "// ** END PROTECTED REGION for " + regionIdentifier.toString();
+	private static GeneratorInputException createNotTerminatedException(ProtectedRegionIdentifier regionIdentifier) {
+		return new GeneratorInputException("The protected region for " + regionIdentifier + " in the existing MDSL file is not terminated. Please add the line '"
+				+ REGION_END + regionIdentifier + "' after the content of the region.");
+	}
+
+	private static ProtectedRegionIdentifier getRegionIdentifier(String regionName) {
+		for (ProtectedRegionIdentifier regionIdentifier : ProtectedRegionIdentifier.values()) {
+			if (regionIdentifier.toString().equals(regionName))
+				return regionIdentifier;
+		}
+		return null;
 	}
 
-	private String getIdentifierKeyWord(ProtectedRegionIdentifier regionIdentifier) {
+	private static Map<ProtectedRegionIdentifier, Pattern> createIdentifierPatterns() {
+		Map<ProtectedRegionIdentifier, Pattern> patterns = new EnumMap<>(ProtectedRegionIdentifier.class);
+		for (ProtectedRegionIdentifier regionIdentifier : ProtectedRegionIdentifier.values()) {
+			patterns.put(regionIdentifier, Pattern.compile("^[^\\/]?" + getIdentifierKeyWord(regionIdentifier) + " ([\\^]?[a-zA-Z_]{1}[a-zA-Z0-9_]*).*$"));
+		}
+		return Collections.unmodifiableMap(patterns);
+	}
+
+	private static String getIdentifierKeyWord(ProtectedRegionIdentifier regionIdentifier) {
 		switch (regionIdentifier) {
 		case DATA_TYPE_REGION:
 			return "data type";
@@ -75,4 +156,35 @@ public class ProtectedRegionReader {
 		}
 	}
 
+	/**
+	 * Content of a protected region (without the begin and end markers) and the
+	 * identifiers declared in it.
+	 */
+	public static class ProtectedRegion {
+
+		private final StringBuilder content = new StringBuilder();
+		private final Set<String> identifiers = Sets.newHashSet();
+		private Matcher identifierMatcher;
+		private boolean empty = true;
+
+		private void addLine(String line, Pattern identifierPattern) {
+			if (!empty)
+				content.append(System.lineSeparator());
+			content.append(line);
+			empty = false;
+
+			identifierMatcher = identifierMatcher == null ? identifierPattern.matcher(line) : identifierMatcher.reset(line);
+			addIdentifier(identifierMatcher, identifiers);
+		}
+
+		public String getContent() {
+			return content.toString();
+		}
+
+		public Set<String> getIdentifiers() {
+			return identifiers;
+		}
+
+	}
+
 }
@@ -17,7 +17,6 @@ package org.contextmapper.dsl.generator.mdsl.generatorcontext;
 
 import java.util.List;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 import org.contextmapper.dsl.contextMappingDSL.Aggregate;
 import org.contextmapper.dsl.contextMappingDSL.BoundedContext;
@@ -29,6 +28,7 @@ import com.google.common.collect.Sets;
 public class DownstreamContext {
 	private BoundedContext downstreamContext;
 	private List<Aggregate> consumedAggregates = Lists.newArrayList();
+	private Set<String> consumedAggregateNames = Sets.newHashSet();
 	private Set<DownstreamRole> downstreamRoles = Sets.newHashSet();
 
 	DownstreamContext(BoundedContext downstreamContext) {
@@ -41,7 +41,7 @@ public class DownstreamContext {
 
 	public void addConsumedAggregates(List<Aggregate> consumedAggregates) {
 		for (Aggregate aggregate : consumedAggregates) {
-			if (!this.consumedAggregates.stream().map(agg -> agg.getName()).collect(Collectors.toList()).contains(aggregate.getName()))
+			if (consumedAggregateNames.add(aggregate.getName()))
 				this.consumedAggregates.add(aggregate);
 		}
 	}
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.generator.mdsl.generatorcontext;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.contextmapper.dsl.contextMappingDSL.Aggregate;
+import org.contextmapper.dsl.contextMappingDSL.BoundedContext;
+import org.contextmapper.dsl.contextMappingDSL.ContextMappingModel;
+import org.contextmapper.dsl.contextMappingDSL.Relationship;
+import org.contextmapper.dsl.contextMappingDSL.UpstreamDownstreamRelationship;
+import org.contextmapper.dsl.generator.mdsl.MDSLNameEncoder;
+import org.contextmapper.tactic.dsl.tacticdsl.DomainObject;
+import org.contextmapper.tactic.dsl.tacticdsl.DomainObjectOperation;
+import org.contextmapper.tactic.dsl.tacticdsl.Service;
+import org.contextmapper.tactic.dsl.tacticdsl.ServiceOperation;
+import org.contextmapper.tactic.dsl.tacticdsl.SimpleDomainObject;
+import org.contextmapper.tactic.dsl.tacticdsl.Visibility;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+/**
+ * Collects the upstream API contexts of a CML model in one pass over the
+ * relationships and bounded contexts. The aggregate roots and operations of the
+ * exposed aggregates are looked up once as well, so that the precondition
+ * checks and the creation of the service specifications can share them.
+ * 
+ * @author The Context Mapper Project Team
+ *
+ */
+public class UpstreamAPIIndex {
+
+	private static final String API_NAME_EXTENSION = "API";
+
+	private Map<String, UpstreamAPIContext> upstreamContexts = Maps.newHashMap();
+	private Map<Aggregate, AggregateOperations> aggregateOperations = Maps.newHashMap();
+
+	public UpstreamAPIIndex(ContextMappingModel model, MDSLNameEncoder mdslEncoder) {
+		collectUpstreamContexts(model, mdslEncoder);
+		for (UpstreamAPIContext context : upstreamContexts.values()) {
+			for (Aggregate aggregate : context.getExposedAggregates()) {
+				aggregateOperations.computeIfAbsent(aggregate, AggregateOperations::new);
+			}
+		}
+	}
+
+	public Collection<UpstreamAPIContext> getUpstreamContexts() {
+		return upstreamContexts.values();
+	}
+
+	/**
+	 * Returns the aggregate root of an exposed aggregate, or null if the
+	 * aggregate does not have one.
+	 */
+	public DomainObject getAggregateRoot(Aggregate aggregate) {
+		return getOperations(aggregate).aggregateRoot;
+	}
+
+	public List<DomainObjectOperation> getPublicAggregateRootOperations(Aggregate aggregate) {
+		return getOperations(aggregate).publicAggregateRootOperations;
+	}
+
+	public List<ServiceOperation> getPublicServiceOperations(Aggregate aggregate) {
+		return getOperations(aggregate).publicServiceOperations;
+	}
+
+	/**
+	 * Returns whether the aggregate root or a service of the aggregate has at
+	 * least one operation (regardless of its visibility).
+	 */
+	public boolean hasOperations(Aggregate aggregate) {
+		return getOperations(aggregate).hasOperations;
+	}
+
+	private AggregateOperations getOperations(Aggregate aggregate) {
+		return aggregateOperations.computeIfAbsent(aggregate, AggregateOperations::new);
+	}
+
+	private void collectUpstreamContexts(ContextMappingModel model, MDSLNameEncoder mdslEncoder) {
+		List<Relationship> relationships = model.getMap() != null ? model.getMap().getRelationships() : Collections.emptyList();
+		for (Relationship rel : relationships) {
+			if (!(rel instanceof UpstreamDownstreamRelationship))
+				continue;
+			UpstreamDownstreamRelationship relationship = (UpstreamDownstreamRelationship) rel;
+			if (relationship.getUpstreamExposedAggregates().isEmpty())
+				continue;
+
+			String upstreamAPIName = relationship.getUpstream().getName() + API_NAME_EXTENSION;
+			UpstreamAPIContext context = upstreamContexts.get(upstreamAPIName);
+			if (context == null) {
+				context = new UpstreamAPIContext();
+				context.setApiName(mdslEncoder.encodeName(upstreamAPIName));
+				context.setUpstreamContext(relationship.getUpstream());
+				upstreamContexts.put(upstreamAPIName, context);
+			}
+			context.getUpstreamRoles().addAll(relationship.getUpstreamRoles());
+			for (Aggregate exposedAggregate : relationship.getUpstreamExposedAggregates()) {
+				context.addExposedAggregate(exposedAggregate);
+			}
+			if (relationship.getUpstream().getApplication() != null)
+				context.setApplicationLayer(relationship.getUpstream().getApplication());
+			context.addDownstreamContext4Relationship(relationship);
+			if (relationship.getImplementationTechnology() != null && !"".equals(relationship.getImplementationTechnology()))
+				context.getImplementationTechnologies().add(relationship.getImplementationTechnology());
+		}
+		// add all contexts that are not upstream in an upstream-downstream relationship
+		for (BoundedContext bc : model.getBoundedContexts()) {
+			String apiName = bc.getName() + API_NAME_EXTENSION;
+			if (upstreamContexts.containsKey(apiName) || (bc.getAggregates().isEmpty() && bc.getApplication() == null))
+				continue;
+
+			UpstreamAPIContext context = new UpstreamAPIContext();
+			context.setApiName(apiName);
+			context.setUpstreamContext(bc);
+			for (Aggregate aggregate : bc.getAggregates()) {
+				context.addExposedAggregate(aggregate);
+			}
+			context.setApplicationLayer(bc.getApplication());
+			upstreamContexts.put(apiName, context);
+		}
+	}
+
+	private static class AggregateOperations {
+
+		private DomainObject aggregateRoot;
+		private List<DomainObjectOperation> publicAggregateRootOperations = Lists.newArrayList();
+		private List<ServiceOperation> publicServiceOperations = Lists.newArrayList();
+		private boolean hasOperations = false;
+
+		AggregateOperations(Aggregate aggregate) {
+			for (SimpleDomainObject object : aggregate.getDomainObjects()) {
+				if (object instanceof DomainObject && ((DomainObject) object).isAggregateRoot()) {
+					aggregateRoot = (DomainObject) object;
+					break;
+				}
+			}
+			if (aggregateRoot != null) {
+				for (DomainObjectOperation operation : aggregateRoot.getOperations()) {
+					hasOperations = true;
+					if (operation.getVisibility().equals(Visibility.PUBLIC))
+						publicAggregateRootOperations.add(operation);
+				}
+			}
+			for (Service service : aggregate.getServices()) {
+				for (ServiceOperation operation : service.getOperations()) {
+					hasOperations = true;
+					if (operation.getVisibility().equals(Visibility.PUBLIC))
+						publicServiceOperations.add(operation);
+				}
+			}
+		}
+
+	}
+
+}
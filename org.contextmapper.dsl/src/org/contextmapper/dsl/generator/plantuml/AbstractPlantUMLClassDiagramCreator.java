@@ -15,8 +15,11 @@
  */
 package org.contextmapper.dsl.generator.plantuml;
 
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.contextmapper.dsl.contextMappingDSL.Aggregate;
 import org.contextmapper.dsl.contextMappingDSL.SculptorModule;
@@ -41,12 +44,35 @@ import org.contextmapper.tactic.dsl.tacticdsl.ValueObject;
 import org.eclipse.emf.ecore.EObject;
 
 import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
 
 abstract public class AbstractPlantUMLClassDiagramCreator<T extends EObject> extends AbstractPlantUMLDiagramCreator<T> {
 
 	protected Map<AssociationLink, AssociationInfo> associationInfos;
 	protected List<UMLRelationship> extensions;
 	protected List<SimpleDomainObject> domainObjects;
+	private Set<SimpleDomainObject> domainObjectSet;
+	private Set<UMLRelationship> extensionSet;
+	private Map<String, List<Aggregate>> aggregatesByDomainObjectName;
+
+	/**
+	 * Resets the diagram state and indexes the domain objects of the diagram once,
+	 * so that membership checks for references, associations and extensions do
+	 * not have to scan lists.
+	 */
+	protected void initDiagramState(List<SimpleDomainObject> domainObjects) {
+		this.associationInfos = new HashMap<>();
+		this.extensions = Lists.newArrayList();
+		this.extensionSet = new HashSet<>();
+		this.domainObjects = domainObjects;
+		this.domainObjectSet = Sets.newIdentityHashSet();
+		this.domainObjectSet.addAll(domainObjects);
+		this.aggregatesByDomainObjectName = new HashMap<>();
+		for (SimpleDomainObject domainObject : domainObjects) {
+			if (domainObject.eContainer() instanceof Aggregate)
+				aggregatesByDomainObjectName.computeIfAbsent(domainObject.getName(), name -> Lists.newArrayList()).add((Aggregate) domainObject.eContainer());
+		}
+	}
 
 	protected void printDomainObject(SimpleDomainObject domainObject, int indentation) {
 		printDomainObject(null, domainObject, indentation);
@@ -241,7 +267,7 @@ abstract public class AbstractPlantUMLClassDiagramCreator<T extends EObject> ext
 	}
 
 	private void addNavigableAssociationToList(Aggregate aggregate, String source, SimpleDomainObject targetDomainObject, String label, Multiplicity multiplicityTarget) {
-		if (this.domainObjects.contains(targetDomainObject)) {
+		if (this.domainObjectSet.contains(targetDomainObject)) {
 			String target = targetDomainObject.getName();
 			AssociationInfo info = createOrGetAssociationInList(aggregate, source, target, label);
 			info.setNavigability(source, target);
@@ -253,7 +279,7 @@ abstract public class AbstractPlantUMLClassDiagramCreator<T extends EObject> ext
 	}
 
 	private void addAssociationToList(Aggregate aggregate, String source, SimpleDomainObject targetDomainObject, String label) {
-		if (this.domainObjects.contains(targetDomainObject)) {
+		if (this.domainObjectSet.contains(targetDomainObject)) {
 			String target = targetDomainObject.getName();
 			createOrGetAssociationInList(aggregate, source, target, label);
 		}
@@ -274,24 +300,21 @@ abstract public class AbstractPlantUMLClassDiagramCreator<T extends EObject> ext
 
 	private boolean aggregateContainsDomainObject(Aggregate aggregate, String source) {
 		if (aggregate != null) {
-			return aggregate.getDomainObjects()
-				.stream()
-				.filter((obj) -> obj.getName().equals(source))
-				.findAny()
-				.isPresent();
+			List<Aggregate> aggregates = aggregatesByDomainObjectName.get(source);
+			return aggregates != null && aggregates.contains(aggregate);
 		}
 
 		return false;
 	}
 
 	private void addExtensionToList(String sourceDomainObject, SimpleDomainObject extendedDomainObject) {
-		if (this.domainObjects.contains(extendedDomainObject))
+		if (this.domainObjectSet.contains(extendedDomainObject))
 			addExtensionToList(sourceDomainObject, extendedDomainObject.getName());
 	}
 
 	private void addExtensionToList(String sourceDomainObject, String extendedDomainObject) {
 		UMLRelationship relationship = new UMLRelationship(sourceDomainObject, extendedDomainObject, "", ClassRelationType.EXTENSION);
-		if (!this.extensions.contains(relationship))
+		if (this.extensionSet.add(relationship))
 			this.extensions.add(relationship);
 	}
 
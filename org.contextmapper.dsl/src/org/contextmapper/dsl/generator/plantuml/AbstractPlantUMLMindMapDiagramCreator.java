@@ -19,18 +19,25 @@ import org.eclipse.emf.ecore.EObject;
 
 public abstract class AbstractPlantUMLMindMapDiagramCreator<T extends EObject> implements PlantUMLDiagramCreator<T> {
 
-	protected StringBuilder sb;
+	protected PlantUMLTextWriter sb;
 
 	public AbstractPlantUMLMindMapDiagramCreator() {
-		this.sb = new StringBuilder();
+		this.sb = new PlantUMLTextWriter();
 	}
 
 	@Override
 	public String createDiagram(T modelObject) {
+		StringBuilder text = new StringBuilder();
+		createDiagram(modelObject, text);
+		return text.toString();
+	}
+
+	@Override
+	public void createDiagram(T modelObject, Appendable out) {
+		this.sb = new PlantUMLTextWriter(out);
 		printHeader();
 		printDiagramContent(modelObject);
 		printFooter();
-		return sb.toString();
 	}
 
 	/*
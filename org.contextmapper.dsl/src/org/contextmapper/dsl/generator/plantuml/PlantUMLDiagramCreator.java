@@ -15,10 +15,26 @@
  */
 package org.contextmapper.dsl.generator.plantuml;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
 import org.eclipse.emf.ecore.EObject;
 
 public interface PlantUMLDiagramCreator<T extends EObject> {
 
 	public String createDiagram(T modelObject);
 
+	/**
+	 * Writes the diagram into the given target instead of returning it as a
+	 * string. Creators that support it stream their output, so that the diagram
+	 * text is never completely held in memory.
+	 */
+	public default void createDiagram(T modelObject, Appendable out) {
+		try {
+			out.append(createDiagram(modelObject));
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
 }
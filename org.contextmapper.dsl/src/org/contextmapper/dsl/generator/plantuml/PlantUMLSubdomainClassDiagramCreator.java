@@ -20,10 +20,6 @@ import org.contextmapper.dsl.contextMappingDSL.Subdomain;
 import org.contextmapper.tactic.dsl.tacticdsl.SimpleDomainObject;
 import org.eclipse.xtext.EcoreUtil2;
 
-import java.util.HashMap;
-
-import com.google.common.collect.Lists;
-
 public class PlantUMLSubdomainClassDiagramCreator extends AbstractPlantUMLClassDiagramCreator<Subdomain> implements PlantUMLDiagramCreator<Subdomain> {
 
 	private String domainName;
@@ -34,9 +30,7 @@ public class PlantUMLSubdomainClassDiagramCreator extends AbstractPlantUMLClassD
 
 	@Override
 	protected void printDiagramContent(Subdomain subdomain) {
-		this.associationInfos = new HashMap<>();
-		this.extensions = Lists.newArrayList();
-		this.domainObjects = EcoreUtil2.<SimpleDomainObject>getAllContentsOfType(subdomain, SimpleDomainObject.class);
+		initDiagramState(EcoreUtil2.<SimpleDomainObject>getAllContentsOfType(subdomain, SimpleDomainObject.class));
 
 		printSubdomain(subdomain, 0);
 		printReferences(0);
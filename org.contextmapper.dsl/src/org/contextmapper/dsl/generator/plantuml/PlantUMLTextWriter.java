@@ -0,0 +1,84 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.generator.plantuml;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Append-only text target for the PlantUML diagram creators. Writes either into
+ * a string buffer or streams directly into an {@link Appendable} (for example a
+ * file writer), so that large diagrams do not have to be kept in memory.
+ * 
+ * @author The Context Mapper Project Team
+ */
+public class PlantUMLTextWriter {
+
+	private final Appendable out;
+
+	public PlantUMLTextWriter() {
+		this(new StringBuilder());
+	}
+
+	public PlantUMLTextWriter(Appendable out) {
+		this.out = out;
+	}
+
+	public PlantUMLTextWriter append(CharSequence text) {
+		try {
+			out.append(text);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return this;
+	}
+
+	public PlantUMLTextWriter append(char c) {
+		try {
+			out.append(c);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return this;
+	}
+
+	public PlantUMLTextWriter append(int i) {
+		return append(String.valueOf(i));
+	}
+
+	public PlantUMLTextWriter append(long l) {
+		return append(String.valueOf(l));
+	}
+
+	public PlantUMLTextWriter append(boolean b) {
+		return append(String.valueOf(b));
+	}
+
+	public PlantUMLTextWriter append(Object object) {
+		return append(String.valueOf(object));
+	}
+
+	/**
+	 * @return the text written so far, if this writer writes into a string buffer
+	 *         (the text is not available if the writer streams into another
+	 *         target)
+	 */
+	@Override
+	public String toString() {
+		return out instanceof CharSequence ? out.toString() : super.toString();
+	}
+
+}
@@ -15,6 +15,8 @@
  */
 package org.contextmapper.dsl.generator.plantuml;
 
+import java.util.Objects;
+
 class UMLRelationship {
 	private String source;
 	private String target;
@@ -55,4 +57,9 @@ class UMLRelationship {
 		boolean typeEqual = (this.type == null ? otherRelationship.type == null : this.type.getSymbol().equals(otherRelationship.type.getSymbol()));
 		return sourceEqual && targetEqual && typeEqual;
 	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(source, target, type == null ? null : type.getSymbol());
+	}
 }
\ No newline at end of file
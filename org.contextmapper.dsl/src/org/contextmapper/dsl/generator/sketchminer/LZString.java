@@ -10,14 +10,12 @@
  * 
  * Port from original JavaScript version by pieroxy 
  * https://github.com/pieroxy/lz-string
+ *
+ * The compression has been reimplemented with a primitive dictionary; the
+ * output is identical to the one of the original implementation.
  */
 package org.contextmapper.dsl.generator.sketchminer;
 
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Map;
-import java.util.Set;
-
 /**
  * This class is copied from https://github.com/rufushuang/lz-string4java.
  *
@@ -30,236 +28,167 @@ public class LZString {
 	public static String compressToEncodedURIComponent(String input) {
 		if (input == null)
 			return "";
-		return LZString._compress(input, 6, new CompressFunctionWrapper() {
-			@Override
-			public char doFunc(int a) {
-				return keyStrUriSafe[a];
-			}
-		});
-	}
-
-	private static abstract class CompressFunctionWrapper {
-		public abstract char doFunc(int i);
+		return LZString._compress(input, 6, keyStrUriSafe);
 	}
 
-	private static String _compress(String uncompressedStr, int bitsPerChar, CompressFunctionWrapper getCharFromInt) {
+	private static String _compress(String uncompressedStr, int bitsPerChar, char[] alphabet) {
 		if (uncompressedStr == null)
 			return "";
-		int i, value;
-		Map<String, Integer> context_dictionary = new HashMap<String, Integer>();
-		Set<String> context_dictionaryToCreate = new HashSet<String>();
-		String context_c = "";
-		String context_wc = "";
-		String context_w = "";
-		int context_enlargeIn = 2; // Compensate for the first entry which should not count
-		int context_dictSize = 3;
-		int context_numBits = 2;
-		StringBuilder context_data = new StringBuilder(uncompressedStr.length() / 3);
-		int context_data_val = 0;
-		int context_data_position = 0;
-		int ii;
+		return new Compressor(uncompressedStr.length(), bitsPerChar, alphabet).compress(uncompressedStr);
+	}
 
-		for (ii = 0; ii < uncompressedStr.length(); ii += 1) {
-			context_c = String.valueOf(uncompressedStr.charAt(ii));
-			if (!context_dictionary.containsKey(context_c)) {
-				context_dictionary.put(context_c, context_dictSize++);
-				context_dictionaryToCreate.add(context_c);
-			}
+	/**
+	 * LZ compressor with a trie as dictionary: an entry is identified by the code
+	 * of its prefix and its last character, so that no substrings have to be
+	 * created. The entries are stored in a primitive open addressing hash table.
+	 */
+	private static class Compressor {
 
-			context_wc = context_w + context_c;
-			if (context_dictionary.containsKey(context_wc)) {
-				context_w = context_wc;
-			} else {
-				if (context_dictionaryToCreate.contains(context_w)) {
-					if (context_w.charAt(0) < 256) {
-						for (i = 0; i < context_numBits; i++) {
-							context_data_val = (context_data_val << 1);
-							if (context_data_position == bitsPerChar - 1) {
-								context_data_position = 0;
-								context_data.append(getCharFromInt.doFunc(context_data_val));
-								context_data_val = 0;
-							} else {
-								context_data_position++;
-							}
-						}
-						value = context_w.charAt(0);
-						for (i = 0; i < 8; i++) {
-							context_data_val = (context_data_val << 1) | (value & 1);
-							if (context_data_position == bitsPerChar - 1) {
-								context_data_position = 0;
-								context_data.append(getCharFromInt.doFunc(context_data_val));
-								context_data_val = 0;
-							} else {
-								context_data_position++;
-							}
-							value = value >> 1;
-						}
-					} else {
-						value = 1;
-						for (i = 0; i < context_numBits; i++) {
-							context_data_val = (context_data_val << 1) | value;
-							if (context_data_position == bitsPerChar - 1) {
-								context_data_position = 0;
-								context_data.append(getCharFromInt.doFunc(context_data_val));
-								context_data_val = 0;
-							} else {
-								context_data_position++;
-							}
-							value = 0;
-						}
-						value = context_w.charAt(0);
-						for (i = 0; i < 16; i++) {
-							context_data_val = (context_data_val << 1) | (value & 1);
-							if (context_data_position == bitsPerChar - 1) {
-								context_data_position = 0;
-								context_data.append(getCharFromInt.doFunc(context_data_val));
-								context_data_val = 0;
-							} else {
-								context_data_position++;
-							}
-							value = value >> 1;
-						}
-					}
-					context_enlargeIn--;
-					if (context_enlargeIn == 0) {
-						context_enlargeIn = powerOf2(context_numBits);
-						context_numBits++;
-					}
-					context_dictionaryToCreate.remove(context_w);
-				} else {
-					value = context_dictionary.get(context_w);
-					for (i = 0; i < context_numBits; i++) {
-						context_data_val = (context_data_val << 1) | (value & 1);
-						if (context_data_position == bitsPerChar - 1) {
-							context_data_position = 0;
-							context_data.append(getCharFromInt.doFunc(context_data_val));
-							context_data_val = 0;
-						} else {
-							context_data_position++;
-						}
-						value = value >> 1;
-					}
+		private static final int NO_CODE = -1;
+		private static final int ROOT = 1; // codes 0 to 2 are reserved, entries start at 3
 
+		private final int bitsPerChar;
+		private final char[] alphabet;
+		private final StringBuilder data;
+		private int dataVal = 0;
+		private int dataPosition = 0;
+
+		private final long[] keys;
+		private final int[] codes;
+		private final int hashShift;
+		// single character entries which have not been written yet
+		private final boolean[] entriesToCreate;
+
+		private int enlargeIn = 2; // Compensate for the first entry which should not count
+		private int dictSize = 3;
+		private int numBits = 2;
+
+		Compressor(int inputLength, int bitsPerChar, char[] alphabet) {
+			this.bitsPerChar = bitsPerChar;
+			this.alphabet = alphabet;
+			this.data = new StringBuilder(inputLength / 3);
+
+			// every input character adds at most two entries (the character and a word)
+			int maxEntries = 2 * inputLength;
+			int capacity = Integer.highestOneBit(Math.max(16, maxEntries * 2 - 1)) << 1;
+			this.keys = new long[capacity];
+			this.codes = new int[capacity];
+			this.hashShift = 64 - Integer.numberOfTrailingZeros(capacity);
+			this.entriesToCreate = new boolean[maxEntries + 3];
+		}
+
+		String compress(String uncompressedStr) {
+			int w = NO_CODE;
+			char wChar = 0;
+			for (int ii = 0; ii < uncompressedStr.length(); ii++) {
+				char c = uncompressedStr.charAt(ii);
+				int cCode = get(ROOT, c);
+				if (cCode == NO_CODE) {
+					cCode = dictSize++;
+					put(ROOT, c, cCode);
+					entriesToCreate[cCode] = true;
 				}
-				context_enlargeIn--;
-				if (context_enlargeIn == 0) {
-					context_enlargeIn = powerOf2(context_numBits);
-					context_numBits++;
+
+				int wc = w == NO_CODE ? cCode : get(w, c);
+				if (wc != NO_CODE) {
+					if (w == NO_CODE)
+						wChar = c;
+					w = wc;
+				} else {
+					writeEntry(w, wChar);
+					// Add wc to the dictionary.
+					put(w, c, dictSize++);
+					w = cCode;
+					wChar = c;
 				}
-				// Add wc to the dictionary.
-				context_dictionary.put(context_wc, context_dictSize++);
-				context_w = context_c;
 			}
+
+			// Output the code for w.
+			if (w != NO_CODE)
+				writeEntry(w, wChar);
+
+			// Mark the end of the stream
+			writeBits(2, numBits);
+
+			// Flush the last char
+			while (true) {
+				dataVal = (dataVal << 1);
+				if (dataPosition == bitsPerChar - 1) {
+					data.append(alphabet[dataVal]);
+					break;
+				} else
+					dataPosition++;
+			}
+			return data.toString();
 		}
 
-		// Output the code for w.
-		if (!context_w.isEmpty()) {
-			if (context_dictionaryToCreate.contains(context_w)) {
-				if (context_w.charAt(0) < 256) {
-					for (i = 0; i < context_numBits; i++) {
-						context_data_val = (context_data_val << 1);
-						if (context_data_position == bitsPerChar - 1) {
-							context_data_position = 0;
-							context_data.append(getCharFromInt.doFunc(context_data_val));
-							context_data_val = 0;
-						} else {
-							context_data_position++;
-						}
-					}
-					value = context_w.charAt(0);
-					for (i = 0; i < 8; i++) {
-						context_data_val = (context_data_val << 1) | (value & 1);
-						if (context_data_position == bitsPerChar - 1) {
-							context_data_position = 0;
-							context_data.append(getCharFromInt.doFunc(context_data_val));
-							context_data_val = 0;
-						} else {
-							context_data_position++;
-						}
-						value = value >> 1;
-					}
+		private void writeEntry(int code, char firstChar) {
+			if (entriesToCreate[code]) {
+				if (firstChar < 256) {
+					writeBits(0, numBits);
+					writeBits(firstChar, 8);
 				} else {
-					value = 1;
-					for (i = 0; i < context_numBits; i++) {
-						context_data_val = (context_data_val << 1) | value;
-						if (context_data_position == bitsPerChar - 1) {
-							context_data_position = 0;
-							context_data.append(getCharFromInt.doFunc(context_data_val));
-							context_data_val = 0;
-						} else {
-							context_data_position++;
-						}
-						value = 0;
-					}
-					value = context_w.charAt(0);
-					for (i = 0; i < 16; i++) {
-						context_data_val = (context_data_val << 1) | (value & 1);
-						if (context_data_position == bitsPerChar - 1) {
-							context_data_position = 0;
-							context_data.append(getCharFromInt.doFunc(context_data_val));
-							context_data_val = 0;
-						} else {
-							context_data_position++;
-						}
-						value = value >> 1;
-					}
+					writeBits(1, numBits);
+					writeBits(firstChar, 16);
 				}
-				context_enlargeIn--;
-				if (context_enlargeIn == 0) {
-					context_enlargeIn = powerOf2(context_numBits);
-					context_numBits++;
-				}
-				context_dictionaryToCreate.remove(context_w);
+				decrementEnlargeIn();
+				entriesToCreate[code] = false;
 			} else {
-				value = context_dictionary.get(context_w);
-				for (i = 0; i < context_numBits; i++) {
-					context_data_val = (context_data_val << 1) | (value & 1);
-					if (context_data_position == bitsPerChar - 1) {
-						context_data_position = 0;
-						context_data.append(getCharFromInt.doFunc(context_data_val));
-						context_data_val = 0;
-					} else {
-						context_data_position++;
-					}
-					value = value >> 1;
-				}
+				writeBits(code, numBits);
+			}
+			decrementEnlargeIn();
+		}
 
+		private void decrementEnlargeIn() {
+			enlargeIn--;
+			if (enlargeIn == 0) {
+				enlargeIn = 1 << numBits;
+				numBits++;
 			}
-			context_enlargeIn--;
-			if (context_enlargeIn == 0) {
-				context_enlargeIn = powerOf2(context_numBits);
-				context_numBits++;
+		}
+
+		private void writeBits(int value, int count) {
+			for (int i = 0; i < count; i++) {
+				dataVal = (dataVal << 1) | (value & 1);
+				if (dataPosition == bitsPerChar - 1) {
+					dataPosition = 0;
+					data.append(alphabet[dataVal]);
+					dataVal = 0;
+				} else {
+					dataPosition++;
+				}
+				value = value >> 1;
 			}
 		}
 
-		// Mark the end of the stream
-		value = 2;
-		for (i = 0; i < context_numBits; i++) {
-			context_data_val = (context_data_val << 1) | (value & 1);
-			if (context_data_position == bitsPerChar - 1) {
-				context_data_position = 0;
-				context_data.append(getCharFromInt.doFunc(context_data_val));
-				context_data_val = 0;
-			} else {
-				context_data_position++;
+		private int get(int prefixCode, char c) {
+			long key = key(prefixCode, c);
+			for (int slot = slot(key);; slot = (slot + 1) & (keys.length - 1)) {
+				if (keys[slot] == key)
+					return codes[slot];
+				if (keys[slot] == 0)
+					return NO_CODE;
 			}
-			value = value >> 1;
 		}
 
-		// Flush the last char
-		while (true) {
-			context_data_val = (context_data_val << 1);
-			if (context_data_position == bitsPerChar - 1) {
-				context_data.append(getCharFromInt.doFunc(context_data_val));
-				break;
-			} else
-				context_data_position++;
+		private void put(int prefixCode, char c, int code) {
+			long key = key(prefixCode, c);
+			int slot = slot(key);
+			while (keys[slot] != 0)
+				slot = (slot + 1) & (keys.length - 1);
+			keys[slot] = key;
+			codes[slot] = code;
+		}
+
+		private static long key(int prefixCode, char c) {
+			// never 0 (empty slot), since prefix codes are at least 1
+			return ((long) prefixCode << 16) | c;
+		}
+
+		private int slot(long key) {
+			return (int) ((key * 0x9E3779B97F4A7C15L) >>> hashShift);
 		}
-		return context_data.toString();
-	}
 
-	private static int powerOf2(int power) {
-		return 1 << power;
 	}
 
 }
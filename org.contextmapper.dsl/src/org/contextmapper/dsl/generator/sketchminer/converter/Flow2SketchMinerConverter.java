@@ -16,6 +16,7 @@
 package org.contextmapper.dsl.generator.sketchminer.converter;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -39,6 +40,7 @@ import org.contextmapper.dsl.contextMappingDSL.InclusiveAlternativeEventProducti
 import org.contextmapper.dsl.contextMappingDSL.InclusiveAlternativeOperationInvokation;
 import org.contextmapper.dsl.contextMappingDSL.MultipleEventProduction;
 import org.contextmapper.dsl.contextMappingDSL.OperationInvokation;
+import org.contextmapper.dsl.generator.exception.GeneratorInputException;
 import org.contextmapper.dsl.generator.sketchminer.converter.SimplifiedFlowStep.ToType;
 import org.contextmapper.dsl.generator.sketchminer.model.SketchMinerModel;
 import org.contextmapper.dsl.generator.sketchminer.model.Task;
@@ -53,13 +55,32 @@ import com.google.common.collect.Sets;
 
 public class Flow2SketchMinerConverter {
 
+	public static final int DEFAULT_MAX_SEQUENCES = 10000;
+
 	private Flow flow;
 	private List<SimplifiedFlowStep> simplifiedSteps;
+	private Map<String, List<SimplifiedFlowStep>> stepsByFromTaskName;
 	private Map<String, Task> taskMap;
 	private SketchMinerModel model;
+	private int maxSequences;
+	private int sequenceCount;
+
+	// fragments that always produce the same sequences are only followed once
+	private Set<SimplifiedFlowStep> finishedMergingFragments = Sets.newIdentityHashSet();
+	private Set<String> finishedParallelFragments = Sets.newHashSet();
 
 	public Flow2SketchMinerConverter(Flow flow) {
+		this(flow, DEFAULT_MAX_SEQUENCES);
+	}
+
+	/**
+	 * @param maxSequences the maximum number of sequences the conversion may
+	 *                     create; flows with many (nested) exclusive gateways can
+	 *                     lead to an exponential number of paths
+	 */
+	public Flow2SketchMinerConverter(Flow flow, int maxSequences) {
 		this.flow = flow;
+		this.maxSequences = maxSequences;
 		this.model = new SketchMinerModel(getDefaultActorName(flow));
 		initIntermediateTypes();
 	}
@@ -67,7 +88,7 @@ public class Flow2SketchMinerConverter {
 	public SketchMinerModel convert() {
 		for (Task initialTask : getInitialTasks()) {
 			TaskSequence seq = new TaskSequence(initialTask);
-			model.addSequence(seq);
+			addSequence(seq);
 			finishSequence(seq);
 		}
 		model.cleanupDuplicateSequences();
@@ -80,13 +101,16 @@ public class Flow2SketchMinerConverter {
 		if (!nextSteps.isEmpty()) {
 			for (SimplifiedFlowStep nextStep : nextSteps) {
 				Task nextStepsParallelTask = createParallelTask(nextStep.getFroms());
-				if (nextStep.getFroms().size() > 1 && !nextStepsParallelTask.equals(lastTask) && !seq.getTasks().contains(nextStepsParallelTask)) {
+				if (nextStep.getFroms().size() > 1 && !nextStepsParallelTask.equals(lastTask) && !seq.containsTask(nextStepsParallelTask)) {
 					seq.isSplittingFragment(true);
+					if (finishedMergingFragments.contains(nextStep))
+						continue;
 					Task mergingTask = createParallelTask(nextStep.getFroms());
 					TaskSequence newSeq = new TaskSequence(mergingTask);
-					model.addSequence(newSeq);
+					addSequence(newSeq);
 					newSeq.isMergingFragment(true);
 					finishSequence(newSeq);
+					finishedMergingFragments.add(nextStep);
 				} else if (nextStep.getTos().size() == 1) {
 					if (seq.addTask(nextStep.getTos().iterator().next()))
 						finishSequence(seq);
@@ -114,13 +138,14 @@ public class Flow2SketchMinerConverter {
 		seq.isSplittingFragment(true);
 		seq.addTask(createParallelTask(nextTasks));
 		for (Task task : nextTasks) {
-			if (seq.getTasks().contains(task))
+			if (seq.containsTask(task) || finishedParallelFragments.contains(task.getName()))
 				continue;
 
 			TaskSequence newSeq = new TaskSequence(task);
 			newSeq.isMergingFragment(true);
-			model.addSequence(newSeq);
+			addSequence(newSeq);
 			finishSequence(newSeq);
+			finishedParallelFragments.add(task.getName());
 		}
 	}
 
@@ -128,7 +153,14 @@ public class Flow2SketchMinerConverter {
 		TaskSequence newSeq = seq.copy();
 		if (newSeq.addTask(nextTask))
 			finishSequence(newSeq);
-		model.addSequence(newSeq);
+		addSequence(newSeq);
+	}
+
+	private void addSequence(TaskSequence seq) {
+		if (++sequenceCount > maxSequences)
+			throw new GeneratorInputException("The flow '" + flow.getName() + "' has too many paths to be converted (more than " + maxSequences
+					+ " sequences). Please split it into smaller flows or reduce the number of exclusive gateways.");
+		model.addSequence(seq);
 	}
 
 	private Task createParallelTask(Collection<Task> allTasks) {
@@ -141,22 +173,30 @@ public class Flow2SketchMinerConverter {
 	}
 
 	private List<SimplifiedFlowStep> getNextSteps(Task lastTask) {
-		List<SimplifiedFlowStep> nextSteps = Lists.newLinkedList();
-		for (SimplifiedFlowStep step : simplifiedSteps) {
-			for (Task task : step.getFroms()) {
-				if (task.equalsOrContainsTask(lastTask))
-					nextSteps.add(step);
-			}
-		}
-		return nextSteps;
+		return stepsByFromTaskName.getOrDefault(lastTask.getName(), Collections.emptyList());
 	}
 
 	private void initIntermediateTypes() {
-		this.simplifiedSteps = Lists.newLinkedList();
+		this.simplifiedSteps = Lists.newArrayList();
+		this.stepsByFromTaskName = Maps.newHashMap();
 		this.taskMap = Maps.newLinkedHashMap();
 
 		for (FlowStep step : flow.getSteps()) {
-			this.simplifiedSteps.add(convert(step));
+			addSimplifiedStep(convert(step));
+		}
+	}
+
+	private void addSimplifiedStep(SimplifiedFlowStep step) {
+		this.simplifiedSteps.add(step);
+		// index the step by all task names a sequence can end with to reach it (see
+		// Task.equalsOrContainsTask)
+		for (Task from : step.getFroms()) {
+			Set<String> names = Sets.newLinkedHashSet();
+			names.add(from.getName());
+			from.getParallelTasks().forEach(t -> names.add(t.getName()));
+			for (String name : names) {
+				stepsByFromTaskName.computeIfAbsent(name, n -> Lists.newArrayList()).add(step);
+			}
 		}
 	}
 
@@ -232,8 +272,11 @@ public class Flow2SketchMinerConverter {
 
 	private List<Task> getInitialTasks() {
 		List<Task> initialTasks = Lists.newLinkedList();
+		Set<Task> targetTasks = Sets.newHashSet();
+		for (SimplifiedFlowStep step : this.simplifiedSteps)
+			targetTasks.addAll(step.getTos());
 		for (Task task : this.taskMap.values()) {
-			if (isInitialTask(task))
+			if (!targetTasks.contains(task))
 				initialTasks.add(task);
 		}
 		if (initialTasks.isEmpty()) { // just take the first mentioned task if we cannot find clear entry point
@@ -244,7 +287,7 @@ public class Flow2SketchMinerConverter {
 			generatedFroms.add(generatedStartTask);
 			generatedTos.add(firstStep.getFroms().iterator().next());
 			SimplifiedFlowStep generatedStep = new SimplifiedFlowStep(generatedFroms, generatedTos, ToType.OR);
-			this.simplifiedSteps.add(generatedStep);
+			addSimplifiedStep(generatedStep);
 			initialTasks.add(generatedStartTask);
 		}
 		return initialTasks;
@@ -261,14 +304,6 @@ public class Flow2SketchMinerConverter {
 		return name;
 	}
 
-	private boolean isInitialTask(Task potentialInitTask) {
-		for (SimplifiedFlowStep step : this.simplifiedSteps) {
-			if (step.getTos().contains(potentialInitTask))
-				return false;
-		}
-		return true;
-	}
-
 	private String getDefaultActorName(Flow flow) {
 		if (flow.eContainer() instanceof Application && StringUtils.isNoneEmpty(((Application) flow.eContainer()).getName()))
 			return ((Application) flow.eContainer()).getName();
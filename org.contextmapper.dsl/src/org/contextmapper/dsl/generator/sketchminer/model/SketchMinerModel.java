@@ -17,6 +17,7 @@ package org.contextmapper.dsl.generator.sketchminer.model;
 
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
@@ -44,13 +45,15 @@ public class SketchMinerModel {
 	}
 
 	public void cleanupDuplicateSequences() {
-		List<TaskSequence> oldSequences = sequences;
+		// tasks are equal if they have the same (parallel) task names, which is what
+		// their string representation contains
+		Set<List<String>> knownSequences = Sets.newHashSet();
 		List<TaskSequence> newSequences = Lists.newLinkedList();
-		for (TaskSequence seq : oldSequences) {
-			if (!containsSequence(newSequences, seq))
+		for (TaskSequence seq : sequences) {
+			if (knownSequences.add(seq.getTasks().stream().map(Task::toString).collect(Collectors.toList())))
 				newSequences.add(seq);
 		}
-		this.sequences = Lists.newLinkedList(newSequences);
+		this.sequences = newSequences;
 	}
 
 	public boolean hasMultipleActors() {
@@ -65,12 +68,4 @@ public class SketchMinerModel {
 		return actors.size() > 1;
 	}
 
-	private boolean containsSequence(List<TaskSequence> seqList, TaskSequence testSeq) {
-		for (TaskSequence seq : seqList) {
-			if (seq.isEqualToOtherSequence(testSeq))
-				return true;
-		}
-		return false;
-	}
-
 }
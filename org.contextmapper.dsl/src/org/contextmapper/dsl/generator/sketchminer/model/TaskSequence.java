@@ -47,6 +47,10 @@ public class TaskSequence {
 		return false;
 	}
 
+	public boolean containsTask(Task task) {
+		return tasks.contains(task);
+	}
+
 	public List<Task> getTasks() {
 		return Lists.newLinkedList(tasks);
 	}
@@ -36,7 +36,6 @@ import org.eclipse.emf.ecore.resource.ResourceSet;
 import org.eclipse.xtext.resource.SaveOptions;
 import org.eclipse.xtext.serializer.ISerializer;
 
-import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 
@@ -49,10 +48,13 @@ public abstract class AbstractRefactoring implements SemanticCMLRefactoring {
 	private Map<ContextMap, CMLResource> contextMapMap = Maps.newHashMap();
 	private Map<Domain, CMLResource> domainMap = Maps.newHashMap();
 	private Map<UserRequirement, CMLResource> userRequirementMap = Maps.newHashMap();
+	private RefactoringSymbolTable symbolTable;
 
 	protected ResourceSet consistencyCheckResources;
 	protected Set<CMLResource> additionalResourcesToCheck = Sets.newHashSet();
 
+	private EListChangeRecorder listChanges = new EListChangeRecorder();
+
 	@Override
 	public void refactor(CMLResource resource) {
 		this.rootResource = resource;
@@ -60,7 +62,13 @@ public abstract class AbstractRefactoring implements SemanticCMLRefactoring {
 		this.model = resource.getContextMappingModel();
 		enableModificationTracking(resource);
 		resolveRootElements();
-		doRefactor();
+		try {
+			doRefactor();
+			listChanges.apply();
+		} finally {
+			// a failed refactoring must not leave list changes for the next one
+			listChanges.clear();
+		}
 	}
 
 	@Override
@@ -123,6 +131,14 @@ public abstract class AbstractRefactoring implements SemanticCMLRefactoring {
 		return Sets.newHashSet(this.userRequirementMap.keySet());
 	}
 
+	/**
+	 * Lookup of Bounded Contexts, Aggregates and domain objects by name; reflects
+	 * the model before the refactoring.
+	 */
+	protected RefactoringSymbolTable getSymbolTable() {
+		return symbolTable;
+	}
+
 	private void persistResource(CMLResource resource, ISerializer serializer) {
 		Set<String> serializationErrors = serializationDryRun(resource, serializer);
 		if (!serializationErrors.isEmpty())
@@ -163,6 +179,7 @@ public abstract class AbstractRefactoring implements SemanticCMLRefactoring {
 		for (CMLResource importedResource : importedResources) {
 			resolveAllRootElements(importedResource);
 		}
+		symbolTable = new RefactoringSymbolTable(getAllBoundedContexts());
 	}
 
 	private void resolveAllRootElements(CMLResource importedResource) {
@@ -211,29 +228,14 @@ public abstract class AbstractRefactoring implements SemanticCMLRefactoring {
 	}
 
 	protected <T> void addElementsToEList(EList<T> list, List<T> elementsToAdd) {
-		// ugly workaround (clear list and add all again); otherwise list is not
-		// properly updated when saving ecore model :(
-		List<T> tempList = Lists.newArrayList(list);
-		list.clear();
-		list.addAll(tempList);
-		list.addAll(elementsToAdd);
+		listChanges.addAll(list, elementsToAdd);
 	}
 
 	protected <T> void addElementToEList(EList<T> list, T elementToAdd) {
-		// ugly workaround (clear list and add all again); otherwise list is not
-		// properly updated when saving ecore model :(
-		List<T> tempList = Lists.newArrayList(list);
-		list.clear();
-		list.addAll(tempList);
-		list.add(elementToAdd);
+		listChanges.add(list, elementToAdd);
 	}
 
 	protected <T> void removeElementFromEList(EList<T> list, T object) {
-		// ugly workaround (clear list and add all again); otherwise list is not
-		// properly updated when saving ecore model :(
-		list.remove(object);
-		List<T> tempList = Lists.newArrayList(list);
-		list.clear();
-		list.addAll(tempList);
+		listChanges.remove(list, object);
 	}
 }
@@ -15,7 +15,7 @@
  */
 package org.contextmapper.dsl.refactoring;
 
-import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -44,8 +44,8 @@ import org.contextmapper.tactic.dsl.tacticdsl.SimpleDomainObject;
 import org.contextmapper.tactic.dsl.tacticdsl.TacticdslFactory;
 import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.xtext.EcoreUtil2;
-import org.eclipse.xtext.xbase.lib.IteratorExtensions;
 
+import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 
 public class DeriveBoundedContextFromSubdomains extends AbstractRefactoring implements SemanticCMLRefactoring {
@@ -98,22 +98,17 @@ public class DeriveBoundedContextFromSubdomains extends AbstractRefactoring impl
 			return initialName;
 
 		String contextName = initialName;
-		Set<String> allAggregateNames = collectAllAggregateNames();
-		allAggregateNames.removeAll(currentBCAggregates);
 		int counter = 2;
-		while (allAggregateNames.contains(contextName)) {
+		while (!currentBCAggregates.contains(contextName) && aggregateExistsInOtherContext(contextName, bc)) {
 			contextName = initialName + "_" + counter;
 			counter++;
 		}
 		return contextName;
 	}
 
-	private Set<String> collectAllAggregateNames() {
-		Set<String> aggregateNames = Sets.newHashSet();
-		for (BoundedContext bc : getAllBoundedContexts()) {
-			aggregateNames.addAll(bc.getAggregates().stream().map(agg -> agg.getName()).collect(Collectors.toSet()));
-		}
-		return aggregateNames;
+	private boolean aggregateExistsInOtherContext(String aggregateName, BoundedContext bc) {
+		return getSymbolTable().getAggregates(aggregateName).stream()
+				.anyMatch(agg -> agg.eContainer() instanceof BoundedContext && agg.eContainer() != bc);
 	}
 
 	private void createEntities(Subdomain subdomain, Aggregate aggregate) {
@@ -138,23 +133,20 @@ public class DeriveBoundedContextFromSubdomains extends AbstractRefactoring impl
 				addElementToEList(bcEntity.getAttributes(), idAttribute);
 			}
 		}
+		Map<String, SimpleDomainObject> referenceableObjects = Maps.newHashMap();
+		for (SimpleDomainObject domainObject : aggregate.getDomainObjects()) {
+			referenceableObjects.putIfAbsent(domainObject.getName(), domainObject);
+		}
 		for (Entity sdEntity : subdomain.getEntities()) {
 			Entity bcEntity = createOrGetEntity(aggregate, sdEntity.getName());
-			copyReferences(sdEntity, bcEntity, aggregate.getDomainObjects());
+			copyReferences(sdEntity, bcEntity, referenceableObjects);
 		}
 	}
 
 	private boolean entityAlreadyExistsInOtherContext(String entityName) {
-		Set<String> existingEntities = Sets.newHashSet();
-		Set<BoundedContext> boundedContexts = getAllBoundedContexts().stream()
-				.filter(bc -> !bc.getName().equals(boundedContextName)).collect(Collectors.toSet());
-		for (BoundedContext bc : boundedContexts) {
-			existingEntities.addAll(Sets.newHashSet(IteratorExtensions.filter(EcoreUtil2.eAll(bc), Entity.class))
-					.stream().map(e -> e.getName()).collect(Collectors.toSet()));
-		}
-		if (existingEntities.contains(entityName))
-			return true;
-		return false;
+		return getSymbolTable().getDomainObjects(entityName).stream().filter(o -> o instanceof Entity)
+				.map(o -> EcoreUtil2.getContainerOfType(o, BoundedContext.class))
+				.anyMatch(bc -> bc != null && !bc.getName().equals(boundedContextName));
 	}
 
 	private void copyAttributes(Entity source, Entity target) {
@@ -167,7 +159,7 @@ public class DeriveBoundedContextFromSubdomains extends AbstractRefactoring impl
 		}
 	}
 
-	private void copyReferences(Entity source, Entity target, List<SimpleDomainObject> referenceableObjects) {
+	private void copyReferences(Entity source, Entity target, Map<String, SimpleDomainObject> referenceableObjects) {
 		Set<String> existingRefs = target.getReferences().stream().map(ref -> ref.getName())
 				.collect(Collectors.toSet());
 		for (Reference sourceRef : source.getReferences()) {
@@ -176,8 +168,12 @@ public class DeriveBoundedContextFromSubdomains extends AbstractRefactoring impl
 			Reference newReference = TacticdslFactory.eINSTANCE.createReference();
 			newReference.setName(sourceRef.getName());
 			newReference.setCollectionType(sourceRef.getCollectionType());
-			newReference.setDomainObjectType(referenceableObjects.stream()
-					.filter(o -> o.getName().equals(sourceRef.getDomainObjectType().getName())).findFirst().get());
+			SimpleDomainObject referencedObject = referenceableObjects.get(sourceRef.getDomainObjectType().getName());
+			if (referencedObject == null)
+				throw new ContextMapperApplicationException("Cannot derive Bounded Context. The domain object \""
+						+ sourceRef.getDomainObjectType().getName() + "\" referenced by \"" + source.getName()
+						+ "\" is not part of the derived Aggregate.");
+			newReference.setDomainObjectType(referencedObject);
 			addElementToEList(target.getReferences(), newReference);
 		}
 	}
@@ -221,8 +217,7 @@ public class DeriveBoundedContextFromSubdomains extends AbstractRefactoring impl
 	}
 
 	private BoundedContext createOrGetBoundedContext(String boundedContextName) {
-		Optional<BoundedContext> optContext = getAllBoundedContexts().stream()
-				.filter(bc -> boundedContextName.equals(bc.getName())).findFirst();
+		Optional<BoundedContext> optContext = getSymbolTable().getBoundedContext(boundedContextName);
 		if (optContext.isPresent())
 			return optContext.get();
 		BoundedContext newBC = ContextMappingDSLFactory.eINSTANCE.createBoundedContext();
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.refactoring;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.emf.common.util.EList;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+
+/**
+ * Changes EMF lists during a refactoring and records which lists have been
+ * changed.
+ * 
+ * Lists that are changed by a refactoring are not properly updated when saving
+ * the ecore model, unless they are cleared and filled again. Instead of doing
+ * that after every single change, the recorder does it once per changed list
+ * when {@link #apply()} is called (after the refactoring). The changes
+ * themselves are executed immediately, so that the refactoring always works on
+ * the current state of the model.
+ *
+ * @author The Context Mapper Project Team
+ */
+class EListChangeRecorder {
+
+	// EList equality is based on the contents; lists must be compared by identity
+	private final Set<EList<?>> changedListsSet = Sets.newIdentityHashSet();
+	private final List<EList<?>> changedLists = Lists.newArrayList();
+
+	<T> void add(EList<T> list, T element) {
+		list.add(element);
+		recordChange(list);
+	}
+
+	<T> void addAll(EList<T> list, Collection<T> elements) {
+		list.addAll(elements);
+		recordChange(list);
+	}
+
+	<T> void remove(EList<T> list, T element) {
+		list.remove(element);
+		recordChange(list);
+	}
+
+	boolean hasChanges() {
+		return !changedLists.isEmpty();
+	}
+
+	/**
+	 * Clears and refills every changed list once, so that the changes are written
+	 * when the model is saved.
+	 */
+	void apply() {
+		for (EList<?> list : changedLists) {
+			refill(list);
+		}
+		clear();
+	}
+
+	/**
+	 * Forgets all recorded changes without refilling the lists.
+	 */
+	void clear() {
+		changedLists.clear();
+		changedListsSet.clear();
+	}
+
+	private <T> void refill(EList<T> list) {
+		List<T> elements = Lists.newArrayList(list);
+		list.clear();
+		list.addAll(elements);
+	}
+
+	private void recordChange(EList<?> list) {
+		if (changedListsSet.add(list))
+			changedLists.add(list);
+	}
+
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.refactoring;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.contextmapper.dsl.contextMappingDSL.Aggregate;
+import org.contextmapper.dsl.contextMappingDSL.BoundedContext;
+import org.contextmapper.tactic.dsl.tacticdsl.SimpleDomainObject;
+import org.eclipse.xtext.EcoreUtil2;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+/**
+ * Index of the Bounded Contexts, Aggregates and domain objects (Entities, Value
+ * Objects, etc.) of a model and its imports by name.
+ * 
+ * The table is created when the root elements of a refactoring are resolved
+ * and built on its first use; elements created or removed afterwards are not
+ * reflected. Refactorings use it to look up the existing elements of the model.
+ *
+ * @author The Context Mapper Project Team
+ */
+public class RefactoringSymbolTable {
+
+	private final Collection<BoundedContext> boundedContexts;
+	private Map<String, BoundedContext> boundedContextsByName;
+	private Map<String, List<Aggregate>> aggregatesByName;
+	private Map<String, List<SimpleDomainObject>> domainObjectsByName;
+
+	RefactoringSymbolTable(Collection<BoundedContext> boundedContexts) {
+		this.boundedContexts = boundedContexts;
+	}
+
+	public Optional<BoundedContext> getBoundedContext(String name) {
+		build();
+		return Optional.ofNullable(boundedContextsByName.get(name));
+	}
+
+	/**
+	 * @return all Aggregates with the given name (in Bounded Contexts or modules)
+	 */
+	public List<Aggregate> getAggregates(String name) {
+		build();
+		return aggregatesByName.getOrDefault(name, Collections.emptyList());
+	}
+
+	/**
+	 * @return all domain objects with the given name (in Aggregates or modules)
+	 */
+	public List<SimpleDomainObject> getDomainObjects(String name) {
+		build();
+		return domainObjectsByName.getOrDefault(name, Collections.emptyList());
+	}
+
+	private void build() {
+		if (boundedContextsByName != null)
+			return;
+
+		boundedContextsByName = Maps.newHashMap();
+		aggregatesByName = Maps.newHashMap();
+		domainObjectsByName = Maps.newHashMap();
+		for (BoundedContext bc : boundedContexts) {
+			boundedContextsByName.putIfAbsent(bc.getName(), bc);
+			for (Aggregate aggregate : EcoreUtil2.eAllOfType(bc, Aggregate.class)) {
+				aggregatesByName.computeIfAbsent(aggregate.getName(), n -> Lists.newArrayList()).add(aggregate);
+			}
+			for (SimpleDomainObject domainObject : EcoreUtil2.eAllOfType(bc, SimpleDomainObject.class)) {
+				domainObjectsByName.computeIfAbsent(domainObject.getName(), n -> Lists.newArrayList()).add(domainObject);
+			}
+		}
+	}
+
+}
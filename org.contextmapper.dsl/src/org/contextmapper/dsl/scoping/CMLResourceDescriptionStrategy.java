@@ -0,0 +1,77 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.scoping;
+
+import java.util.Collections;
+import java.util.Map;
+
+import org.contextmapper.dsl.contextMappingDSL.BoundedContext;
+import org.contextmapper.dsl.contextMappingDSL.Domain;
+import org.contextmapper.tactic.dsl.tacticdsl.DomainObject;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.xtext.resource.EObjectDescription;
+import org.eclipse.xtext.resource.IEObjectDescription;
+import org.eclipse.xtext.resource.impl.DefaultResourceDescriptionStrategy;
+import org.eclipse.xtext.util.IAcceptor;
+
+/**
+ * Exports the owner (Bounded Context or Domain) of domain objects as user data,
+ * so that scopes can be filtered without resolving the described objects (see
+ * {@link CMLScopingHelper}).
+ * 
+ * @author The Context Mapper Project Team
+ *
+ */
+public class CMLResourceDescriptionStrategy extends DefaultResourceDescriptionStrategy {
+
+	public static final String OWNER_KEY = "owner";
+	public static final String BOUNDED_CONTEXT_OWNER = "BoundedContext";
+	public static final String DOMAIN_OWNER = "Domain";
+
+	@Override
+	public boolean createEObjectDescriptions(EObject eObject, IAcceptor<IEObjectDescription> acceptor) {
+		if (!(eObject instanceof DomainObject))
+			return super.createEObjectDescriptions(eObject, acceptor);
+
+		// keep the null and error handling of the default strategy; only add the owner
+		return super.createEObjectDescriptions(eObject,
+				description -> acceptor.accept(EObjectDescription.create(description.getName(), description.getEObjectOrProxy(), getUserData(eObject))));
+	}
+
+	private Map<String, String> getUserData(EObject domainObject) {
+		String owner = getOwner(domainObject);
+		if (owner == null)
+			return Collections.emptyMap();
+		return Collections.singletonMap(OWNER_KEY, owner);
+	}
+
+	/**
+	 * @return BOUNDED_CONTEXT_OWNER or DOMAIN_OWNER if the object is contained in a
+	 *         Bounded Context or a Domain, null otherwise
+	 */
+	static String getOwner(EObject object) {
+		EObject parent = object.eContainer();
+		while (parent != null) {
+			if (parent instanceof BoundedContext)
+				return BOUNDED_CONTEXT_OWNER;
+			if (parent instanceof Domain)
+				return DOMAIN_OWNER;
+			parent = parent.eContainer();
+		}
+		return null;
+	}
+
+}
@@ -15,80 +15,90 @@
  */
 package org.contextmapper.dsl.scoping;
 
-import java.util.List;
-import java.util.Set;
-import java.util.function.Predicate;
+import static org.contextmapper.dsl.scoping.CMLResourceDescriptionStrategy.BOUNDED_CONTEXT_OWNER;
+import static org.contextmapper.dsl.scoping.CMLResourceDescriptionStrategy.DOMAIN_OWNER;
+import static org.contextmapper.dsl.scoping.CMLResourceDescriptionStrategy.OWNER_KEY;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
-import org.contextmapper.dsl.contextMappingDSL.impl.BoundedContextImpl;
-import org.contextmapper.dsl.contextMappingDSL.impl.DomainImpl;
 import org.contextmapper.tactic.dsl.tacticdsl.Association;
-import org.contextmapper.tactic.dsl.tacticdsl.DomainObject;
 import org.contextmapper.tactic.dsl.tacticdsl.Reference;
+import org.contextmapper.tactic.dsl.tacticdsl.TacticdslPackage;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.xtext.resource.IEObjectDescription;
 import org.eclipse.xtext.scoping.IScope;
-import org.eclipse.xtext.scoping.impl.SimpleScope;
+import org.eclipse.xtext.scoping.impl.FilteringScope;
+import org.eclipse.xtext.util.IResourceScopeCache;
 
-import com.google.common.collect.Lists;
-import com.google.common.collect.Sets;
+import com.google.inject.Inject;
 
 /**
  * Helper class to filter scope. For example: domain objects in domains shall
  * not refer domain objects in Bounded Contexts and vice versa.
  * 
+ * The scopes are filtered lazily (only the elements that are looked up are
+ * checked). The owner of a domain object is taken from the exported user data
+ * (see {@link CMLResourceDescriptionStrategy}) if available, so that no proxies
+ * have to be resolved; otherwise it is computed once per object and cached for
+ * the resource.
+ * 
  * @author Stefan Kapferer
  *
  */
 public class CMLScopingHelper {
 
+	private static final String OWNERS_CACHE_KEY = CMLScopingHelper.class.getName() + ".owners";
+	private static final String NO_OWNER = "";
+
+	@Inject(optional = true)
+	private IResourceScopeCache cache;
+
 	public IScope reduceReferenceScope(IScope existingScope, Reference reference, EReference eReference) {
-		// domain objects in Domains shall not refer to domain objects in Bounded
-		// Contexts and vice versa:
-		if (isPartOfBoundedContext(reference)) {
-			return filterScope(existingScope, (ieoDesc) -> ieoDesc.getEObjectOrProxy() instanceof DomainObject && isPartOfDomain(ieoDesc.getEObjectOrProxy()));
-		} else if (isPartOfDomain(reference)) {
-			return filterScope(existingScope, (ieoDesc) -> ieoDesc.getEObjectOrProxy() instanceof DomainObject && isPartOfBoundedContext(ieoDesc.getEObjectOrProxy()));
-		}
-		return existingScope;
+		return reduceDomainObjectScope(existingScope, reference);
 	}
 
 	public IScope reduceReferenceScope(IScope existingScope, Association association, EReference eReference) {
+		return reduceDomainObjectScope(existingScope, association);
+	}
+
+	private IScope reduceDomainObjectScope(IScope existingScope, EObject context) {
 		// domain objects in Domains shall not refer to domain objects in Bounded
 		// Contexts and vice versa:
-		if (isPartOfBoundedContext(association)) {
-			return filterScope(existingScope, (ieoDesc) -> ieoDesc.getEObjectOrProxy() instanceof DomainObject && isPartOfDomain(ieoDesc.getEObjectOrProxy()));
-		} else if (isPartOfDomain(association)) {
-			return filterScope(existingScope, (ieoDesc) -> ieoDesc.getEObjectOrProxy() instanceof DomainObject && isPartOfBoundedContext(ieoDesc.getEObjectOrProxy()));
+		String owner = getOwner(context);
+		if (BOUNDED_CONTEXT_OWNER.equals(owner)) {
+			return new FilteringScope(existingScope, (ieoDesc) -> !isDomainObjectOwnedBy(ieoDesc, DOMAIN_OWNER));
+		} else if (DOMAIN_OWNER.equals(owner)) {
+			return new FilteringScope(existingScope, (ieoDesc) -> !isDomainObjectOwnedBy(ieoDesc, BOUNDED_CONTEXT_OWNER));
 		}
 		return existingScope;
 	}
 
-	private IScope filterScope(IScope scope, Predicate<IEObjectDescription> descriptionsToRemovePredicate) {
-		List<IEObjectDescription> descriptions = Lists.newLinkedList();
-		for (IEObjectDescription ieoDesc : scope.getAllElements()) {
-			if (!(descriptionsToRemovePredicate.test(ieoDesc)))
-				descriptions.add(ieoDesc);
-		}
-		return new SimpleScope(descriptions);
-	}
+	private boolean isDomainObjectOwnedBy(IEObjectDescription ieoDesc, String owner) {
+		if (!TacticdslPackage.Literals.DOMAIN_OBJECT.isSuperTypeOf(ieoDesc.getEClass()))
+			return false;
+		String exportedOwner = ieoDesc.getUserData(OWNER_KEY);
+		if (exportedOwner != null)
+			return owner.equals(exportedOwner);
 
-	private boolean isPartOfBoundedContext(EObject object) {
-		return getParentTypes(object).contains(BoundedContextImpl.class);
+		// unresolved proxies have no container; they are not filtered
+		EObject object = ieoDesc.getEObjectOrProxy();
+		return !object.eIsProxy() && owner.equals(getOwner(object));
 	}
 
-	private boolean isPartOfDomain(EObject object) {
-		return getParentTypes(object).contains(DomainImpl.class);
-	}
+	private String getOwner(EObject object) {
+		Resource resource = object.eResource();
+		if (cache == null || resource == null)
+			return CMLResourceDescriptionStrategy.getOwner(object);
 
-	private Set<Class<? extends EObject>> getParentTypes(EObject object) {
-		Set<Class<? extends EObject>> parentTypes = Sets.newHashSet();
-		EObject parent = object.eContainer();
-		while (parent != null) {
-			parentTypes.add(parent.getClass());
-			parent = parent.eContainer();
-		}
-		return parentTypes;
+		Map<EObject, String> owners = cache.get(OWNERS_CACHE_KEY, resource, () -> new ConcurrentHashMap<EObject, String>());
+		String owner = owners.computeIfAbsent(object, o -> {
+			String objectOwner = CMLResourceDescriptionStrategy.getOwner(o);
+			return objectOwner != null ? objectOwner : NO_OWNER;
+		});
+		return owner.isEmpty() ? null : owner;
 	}
-	
+
 }
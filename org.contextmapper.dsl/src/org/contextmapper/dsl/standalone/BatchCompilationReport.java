@@ -0,0 +1,157 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.standalone;
+
+import java.io.File;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.eclipse.xtext.diagnostics.Severity;
+import org.eclipse.xtext.validation.Issue;
+
+import com.google.common.collect.Lists;
+
+/**
+ * Aggregated result of a batch compilation (validation and generation of
+ * multiple CML files).
+ *
+ * @author The Context Mapper Project Team
+ */
+public class BatchCompilationReport {
+
+	private final List<FileResult> fileResults;
+	private final long durationMillis;
+
+	BatchCompilationReport(List<FileResult> fileResults, long durationMillis) {
+		this.fileResults = Collections.unmodifiableList(fileResults);
+		this.durationMillis = durationMillis;
+	}
+
+	/**
+	 * @return the results of all processed files, in the order of the input files
+	 */
+	public List<FileResult> getFileResults() {
+		return fileResults;
+	}
+
+	/**
+	 * @return the results of the files that could not be validated or generated
+	 */
+	public List<FileResult> getFailedFiles() {
+		return fileResults.stream().filter(r -> !r.isSuccessful()).collect(Collectors.toList());
+	}
+
+	public boolean isSuccessful() {
+		return fileResults.stream().allMatch(FileResult::isSuccessful);
+	}
+
+	public long getDurationMillis() {
+		return durationMillis;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder report = new StringBuilder();
+		report.append("Processed ").append(fileResults.size()).append(" CML files in ").append(durationMillis).append(" ms; ")
+				.append(getFailedFiles().size()).append(" failed.");
+		for (FileResult result : getFailedFiles()) {
+			report.append(System.lineSeparator()).append(result.getFile().getPath()).append(":");
+			for (String error : result.getErrors()) {
+				report.append(System.lineSeparator()).append("  ").append(error);
+			}
+		}
+		return report.toString();
+	}
+
+	/**
+	 * Result for a single CML file.
+	 */
+	public static class FileResult {
+
+		private final File file;
+		private final List<Issue> issues = Lists.newArrayList();
+		private final List<String> generatorErrors = Lists.newArrayList();
+		private Exception exception;
+		private long durationMillis;
+
+		FileResult(File file) {
+			this.file = file;
+		}
+
+		public File getFile() {
+			return file;
+		}
+
+		/**
+		 * @return all validation issues (errors, warnings and infos) of the file
+		 */
+		public List<Issue> getIssues() {
+			return Collections.unmodifiableList(issues);
+		}
+
+		public boolean hasValidationErrors() {
+			return issues.stream().anyMatch(i -> i.getSeverity() == Severity.ERROR);
+		}
+
+		/**
+		 * @return the exception that prevented the file from being loaded or
+		 *         processed, or null if there was none
+		 */
+		public Exception getException() {
+			return exception;
+		}
+
+		/**
+		 * @return all error messages (validation errors, generator failures and
+		 *         loading failures) of the file
+		 */
+		public List<String> getErrors() {
+			List<String> errors = Lists.newArrayList();
+			if (exception != null)
+				errors.add(exception.getClass().getSimpleName() + ": " + exception.getMessage());
+			issues.stream().filter(i -> i.getSeverity() == Severity.ERROR).forEach(i -> errors.add("line " + i.getLineNumber() + ": " + i.getMessage()));
+			errors.addAll(generatorErrors);
+			return errors;
+		}
+
+		public boolean isSuccessful() {
+			return exception == null && !hasValidationErrors() && generatorErrors.isEmpty();
+		}
+
+		public long getDurationMillis() {
+			return durationMillis;
+		}
+
+		void addIssues(List<Issue> issues) {
+			this.issues.addAll(issues);
+		}
+
+		void addGeneratorError(String generatorName, Exception e) {
+			this.generatorErrors.add(generatorName + " failed: " + e.getMessage());
+		}
+
+		void setException(Exception exception) {
+			this.exception = exception;
+		}
+
+		void setDurationMillis(long durationMillis) {
+			this.durationMillis = durationMillis;
+		}
+
+	}
+
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.standalone;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.contextmapper.dsl.cml.CMLResource;
+import org.contextmapper.dsl.exception.ContextMapperApplicationException;
+import org.contextmapper.dsl.standalone.BatchCompilationReport.FileResult;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.xtext.generator.GeneratorContext;
+import org.eclipse.xtext.generator.IGenerator2;
+import org.eclipse.xtext.util.CancelIndicator;
+import org.eclipse.xtext.validation.CheckMode;
+import org.eclipse.xtext.validation.IResourceValidator;
+
+import com.google.common.collect.Lists;
+
+/**
+ * Validates multiple CML files and calls generators for them on a bounded
+ * worker pool.
+ *
+ * EMF resource sets and models are not thread-safe (validators, generators and
+ * lazy linking install adapters and replace proxies), so every worker loads its
+ * file and the imported files into its own resource set. Errors are isolated
+ * per file: a file that cannot be loaded, has validation errors or breaks a
+ * generator does not stop the processing of the other files.
+ *
+ * @author The Context Mapper Project Team
+ */
+class BatchCompiler {
+
+	private final IResourceValidator validator;
+	private final int parallelism;
+
+	BatchCompiler(IResourceValidator validator, int parallelism) {
+		if (parallelism < 1)
+			throw new IllegalArgumentException("The parallelism of the batch compiler must be at least 1.");
+		this.validator = validator;
+		this.parallelism = parallelism;
+	}
+
+	BatchCompilationReport compile(File directory, String glob, List<Supplier<IGenerator2>> generators, String outputDir) {
+		long start = System.currentTimeMillis();
+		List<File> cmlFiles = findFiles(directory, glob);
+
+		ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, Math.max(1, cmlFiles.size())));
+		try {
+			List<Future<FileResult>> futures = Lists.newArrayList();
+			for (File cmlFile : cmlFiles) {
+				String fileOutputDir = getOutputDir(directory, cmlFile, outputDir);
+				futures.add(executor.submit(() -> process(cmlFile, generators, fileOutputDir)));
+			}
+			List<FileResult> results = Lists.newArrayList();
+			for (Future<FileResult> future : futures) {
+				results.add(future.get());
+			}
+			return new BatchCompilationReport(results, System.currentTimeMillis() - start);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new ContextMapperApplicationException("The batch compilation has been interrupted.", e);
+		} catch (ExecutionException e) {
+			throw new ContextMapperApplicationException("The batch compilation failed: " + e.getCause().getMessage(), e.getCause());
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private FileResult process(File cmlFile, List<Supplier<IGenerator2>> generators, String outputDir) {
+		FileResult result = new FileResult(cmlFile);
+		long start = System.currentTimeMillis();
+		try {
+			// the resource set is confined to this worker
+			ResourceSet resourceSet = new ResourceSetImpl();
+			CMLResource resource = new CMLResource(resourceSet.getResource(URI.createFileURI(cmlFile.getAbsolutePath()), true));
+			resolveAll(resourceSet);
+
+			result.addIssues(validator.validate(resource, CheckMode.ALL, CancelIndicator.NullImpl));
+			if (result.hasValidationErrors())
+				return result;
+
+			for (Supplier<IGenerator2> generatorSupplier : generators) {
+				IGenerator2 generator = generatorSupplier.get();
+				try {
+					generator.doGenerate(resource, FileSystemHelper.getFileSystemAccess(outputDir), new GeneratorContext());
+				} catch (Exception e) {
+					result.addGeneratorError(generator.getClass().getSimpleName(), e);
+				}
+			}
+		} catch (Exception e) {
+			result.setException(e);
+		} finally {
+			result.setDurationMillis(System.currentTimeMillis() - start);
+		}
+		return result;
+	}
+
+	private void resolveAll(ResourceSet resourceSet) {
+		// copy: resolving proxies can load further (imported) resources
+		for (Resource resource : Lists.newArrayList(resourceSet.getResources())) {
+			try {
+				EcoreUtil.resolveAll(resource);
+			} catch (Exception e) {
+				// reported by the validation of the corresponding file
+			}
+		}
+	}
+
+	private List<File> findFiles(File directory, String glob) {
+		if (!directory.isDirectory())
+			throw new ContextMapperApplicationException("The directory '" + directory.getPath() + "' does not exist.");
+
+		Path root = directory.toPath();
+		PathMatcher matcher = FileSystems.getDefault().getPathMatcher("glob:" + glob);
+		try (Stream<Path> paths = Files.walk(root)) {
+			return paths.filter(Files::isRegularFile).filter(p -> matcher.matches(root.relativize(p))).sorted().map(Path::toFile)
+					.collect(Collectors.toList());
+		} catch (IOException e) {
+			throw new ContextMapperApplicationException("Could not read the CML files in '" + directory.getPath() + "'.", e);
+		}
+	}
+
+	private String getOutputDir(File inputDirectory, File cmlFile, String outputDir) {
+		// mirror the input directory structure so that files with equal names do not
+		// overwrite each others output
+		Path relativeParent = inputDirectory.toPath().relativize(cmlFile.toPath()).getParent();
+		return relativeParent == null ? outputDir : new File(outputDir, relativeParent.toString()).getPath();
+	}
+
+}
@@ -15,15 +15,82 @@
  */
 package org.contextmapper.dsl.standalone;
 
+import org.contextmapper.dsl.ContextMappingDSLStandaloneSetup;
+
+import com.google.inject.Injector;
+
 /**
  * Factory method to get an StandaloneContextMapperAPI instance.
  * 
+ * The Guice injector (and the EMF registration) of the CML language is created
+ * once per process, lazily on first use, and shared by all
+ * StandaloneContextMapperAPI instances.
+ * 
  * @author Stefan Kapferer
  */
 public class ContextMapperStandaloneSetup {
 
+	private static final Object LOCK = new Object();
+
+	private static volatile Injector injector;
+	private static volatile long startupTimeMillis = -1;
+
 	public static StandaloneContextMapperAPI getStandaloneAPI() {
-		return new StandaloneContextMapper();
+		return new StandaloneContextMapper(getInjector());
+	}
+
+	/**
+	 * Returns the shared injector of the CML language. Creates the injector and
+	 * does the EMF registration if this has not been done yet (thread-safe).
+	 * 
+	 * @return the shared CML injector
+	 */
+	public static Injector getInjector() {
+		Injector result = injector;
+		if (result == null) {
+			synchronized (LOCK) {
+				result = injector;
+				if (result == null) {
+					long start = System.nanoTime();
+					result = new ContextMappingDSLStandaloneSetup().createInjectorAndDoEMFRegistration();
+					startupTimeMillis = (System.nanoTime() - start) / 1_000_000;
+					injector = result;
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Eagerly creates the shared injector (for example at application startup,
+	 * to keep the first API call fast).
+	 */
+	public static void initialize() {
+		getInjector();
+	}
+
+	public static boolean isInitialized() {
+		return injector != null;
+	}
+
+	/**
+	 * Discards the shared injector; the next call to {@link #getInjector()}
+	 * creates a new one. StandaloneContextMapperAPI instances created before keep
+	 * using the old injector. The EMF registrations are not removed.
+	 */
+	public static void reset() {
+		synchronized (LOCK) {
+			injector = null;
+			startupTimeMillis = -1;
+		}
+	}
+
+	/**
+	 * @return the time (in milliseconds) it took to create the shared injector and
+	 *         to do the EMF registration, or -1 if it has not been created yet
+	 */
+	public static long getStartupTimeMillis() {
+		return startupTimeMillis;
 	}
 
 }
@@ -16,8 +16,9 @@
 package org.contextmapper.dsl.standalone;
 
 import java.io.File;
+import java.util.List;
+import java.util.function.Supplier;
 
-import org.contextmapper.dsl.ContextMappingDSLStandaloneSetup;
 import org.contextmapper.dsl.cml.CMLResource;
 import org.contextmapper.dsl.contextMappingDSL.ContextMappingDSLFactory;
 import org.contextmapper.dsl.refactoring.SemanticCMLRefactoring;
@@ -27,17 +28,26 @@ import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
 import org.eclipse.xtext.generator.GeneratorContext;
 import org.eclipse.xtext.generator.IGenerator2;
 import org.eclipse.xtext.serializer.ISerializer;
+import org.eclipse.xtext.validation.IResourceValidator;
 
 import com.google.inject.Inject;
 import com.google.inject.Injector;
 
 public class StandaloneContextMapper implements StandaloneContextMapperAPI {
 
+	private static final String DEFAULT_CML_GLOB = "**.cml";
+
 	@Inject
 	private ISerializer serializer;
 
+	@Inject
+	private IResourceValidator resourceValidator;
+
 	public StandaloneContextMapper() {
-		Injector injector = new ContextMappingDSLStandaloneSetup().createInjectorAndDoEMFRegistration();
+		this(ContextMapperStandaloneSetup.getInjector());
+	}
+
+	StandaloneContextMapper(Injector injector) {
 		injector.injectMembers(this);
 	}
 
@@ -61,6 +71,16 @@ public class StandaloneContextMapper implements StandaloneContextMapperAPI {
 		generator.doGenerate(cml, FileSystemHelper.getFileSystemAccess(outputDir), new GeneratorContext());
 	}
 
+	@Override
+	public BatchCompilationReport callGenerators(File directory, List<Supplier<IGenerator2>> generators, String outputDir) {
+		return callGenerators(directory, DEFAULT_CML_GLOB, generators, outputDir, Runtime.getRuntime().availableProcessors());
+	}
+
+	@Override
+	public BatchCompilationReport callGenerators(File directory, String glob, List<Supplier<IGenerator2>> generators, String outputDir, int parallelism) {
+		return new BatchCompiler(resourceValidator, parallelism).compile(directory, glob, generators, outputDir);
+	}
+
 	@Override
 	public CMLResource createCML(String filepath) {
 		return createNewCMLResource(new File(filepath));
@@ -16,6 +16,8 @@
 package org.contextmapper.dsl.standalone;
 
 import java.io.File;
+import java.util.List;
+import java.util.function.Supplier;
 
 import org.contextmapper.dsl.cml.CMLResource;
 import org.contextmapper.dsl.refactoring.SemanticCMLRefactoring;
@@ -88,6 +90,41 @@ public interface StandaloneContextMapperAPI {
 	 */
 	void callGenerator(CMLResource cml, IGenerator2 generator, String outputDir);
 
+	/**
+	 * Validates all *.cml files in a directory (including subdirectories) and
+	 * calls the given generators for every file without validation errors. The
+	 * files are processed in parallel (one worker per available processor); every
+	 * worker loads its file into its own resource set. The output of a file is generated into
+	 * the subdirectory of the output directory that corresponds to the location of
+	 * the file within the input directory.
+	 * 
+	 * @param directory  the directory containing the *.cml files
+	 * @param generators suppliers for the generators that shall be called
+	 *                   (generators are not thread-safe; the supplier must return
+	 *                   a new instance on every call)
+	 * @param outputDir  the directory in which you want to generate the output
+	 * @return the report containing the validation issues and errors per file
+	 */
+	BatchCompilationReport callGenerators(File directory, List<Supplier<IGenerator2>> generators, String outputDir);
+
+	/**
+	 * Validates all files in a directory matching the given glob pattern and calls
+	 * the given generators for every file without validation errors. The files are
+	 * processed on a worker pool of the given size; every worker loads its file
+	 * into its own resource set.
+	 * 
+	 * @param directory   the directory containing the *.cml files
+	 * @param glob        glob pattern (relative to the directory) selecting the
+	 *                    files to process; for example "**.cml" or "models/*.cml"
+	 * @param generators  suppliers for the generators that shall be called
+	 *                    (generators are not thread-safe; the supplier must return
+	 *                    a new instance on every call)
+	 * @param outputDir   the directory in which you want to generate the output
+	 * @param parallelism the maximum number of files processed concurrently
+	 * @return the report containing the validation issues and errors per file
+	 */
+	BatchCompilationReport callGenerators(File directory, String glob, List<Supplier<IGenerator2>> generators, String outputDir, int parallelism);
+
 	/**
 	 * Applies a refactoring (must be of type SemanticCMLRefactoring) on a CML
 	 * model.
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.standalone;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+
+import org.contextmapper.dsl.generator.StreamingFileSystemAccess;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.xtext.generator.JavaIoFileSystemAccess;
+import org.eclipse.xtext.parser.IEncodingProvider;
+
+import com.google.inject.Inject;
+
+/**
+ * Java IO based file system access that can also stream text into and out of
+ * files.
+ * 
+ * @author The Context Mapper Project Team
+ */
+public class StreamingJavaIoFileSystemAccess extends JavaIoFileSystemAccess implements StreamingFileSystemAccess {
+
+	@Inject
+	private IEncodingProvider encodingProvider;
+
+	@Override
+	public Writer openFileWriter(String fileName) throws IOException {
+		URI uri = getURI(fileName);
+		File file = new File(uri.toFileString());
+		File parent = file.getParentFile();
+		if (parent != null && !parent.exists() && !parent.mkdirs() && !parent.exists())
+			throw new IOException("Could not create the directory " + parent.getAbsolutePath());
+		return new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file), getEncoding(uri)));
+	}
+
+	@Override
+	public Reader openFileReader(String fileName) throws IOException {
+		URI uri = getURI(fileName);
+		return new BufferedReader(new InputStreamReader(new FileInputStream(new File(uri.toFileString())), getEncoding(uri)));
+	}
+
+	private String getEncoding(URI uri) {
+		return encodingProvider != null ? encodingProvider.getEncoding(uri) : "UTF-8";
+	}
+
+}
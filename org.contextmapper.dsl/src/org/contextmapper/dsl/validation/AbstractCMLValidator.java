@@ -15,17 +15,43 @@
  */
 package org.contextmapper.dsl.validation;
 
+import java.util.HashMap;
+import java.util.Map;
+
+import org.contextmapper.dsl.cml.CMLModelNameIndex;
 import org.contextmapper.dsl.contextMappingDSL.ContextMappingModel;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.xtext.util.IResourceScopeCache;
 import org.eclipse.xtext.validation.AbstractDeclarativeValidator;
 
+import com.google.inject.Inject;
+
 public class AbstractCMLValidator extends AbstractDeclarativeValidator {
 
 	public static final String ID_VALIDATION_PATTERN = "^[a-zA-Z_][a-zA-Z0-9_]*";
 
+	@Inject(optional = true)
+	private IResourceScopeCache cache;
+
 	protected ContextMappingModel getRootCMLModel(EObject modelElement) {
 		return (ContextMappingModel) EcoreUtil.getRootContainer(modelElement);
 	}
 
+	/**
+	 * Returns the name index for the root model of the given element. The index is
+	 * shared by all checks of the same validation run.
+	 */
+	@SuppressWarnings("unchecked")
+	protected CMLModelNameIndex getNameIndex(EObject modelElement) {
+		ContextMappingModel rootModel = getRootCMLModel(modelElement);
+		Map<Object, Object> context = getContext();
+		if (context == null)
+			return new CMLModelNameIndex(rootModel, cache);
+
+		Map<ContextMappingModel, CMLModelNameIndex> indexes = (Map<ContextMappingModel, CMLModelNameIndex>) context.computeIfAbsent(CMLModelNameIndex.class,
+				k -> new HashMap<ContextMappingModel, CMLModelNameIndex>());
+		return indexes.computeIfAbsent(rootModel, m -> new CMLModelNameIndex(m, cache));
+	}
+
 }